@@ -23,6 +23,7 @@ import org.apache.maven.plugins.annotations.Component;
 import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.project.MavenProject;
 import org.apache.maven.project.MavenProjectHelper;
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
 
 import java.nio.file.Paths;
 
@@ -79,12 +80,31 @@ public abstract class AbstractUUFMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project.build.finalName}", readonly = true, required = true)
     protected String finalName;
 
+    /**
+     * Resource limits applied when parsing YAML configuration files of apps, components and themes.
+     */
+    @Parameter(required = false)
+    protected YamlLimits yamlLimits;
+
     /**
      * Project helper for the associated Maven project.
      */
     @Component
     protected MavenProjectHelper projectHelper;
 
+    /**
+     * Returns the configured resource limits for parsing YAML configuration files, or the default limits if none are
+     * configured.
+     *
+     * @return resource limits for parsing YAML configuration files
+     */
+    protected YamlLimits getYamlLimits() {
+        if (yamlLimits == null) {
+            yamlLimits = new YamlLimits();
+        }
+        return yamlLimits;
+    }
+
     protected static String pathOf(String part1, String... parts) {
         return Paths.get(part1, parts).toString();
     }
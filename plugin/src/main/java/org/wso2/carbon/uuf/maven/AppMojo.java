@@ -31,25 +31,53 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.twdata.maven.mojoexecutor.MojoExecutor;
 import org.wso2.carbon.uuf.maven.bean.AppConfig;
+import org.wso2.carbon.uuf.maven.bean.AppIndex;
 import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
 import org.wso2.carbon.uuf.maven.bean.Configuration;
 import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.bean.DependencyTreeDiff;
 import org.wso2.carbon.uuf.maven.bean.mojo.Bundle;
 import org.wso2.carbon.uuf.maven.bean.mojo.BundleListConfig;
 import org.wso2.carbon.uuf.maven.exception.ParsingException;
 import org.wso2.carbon.uuf.maven.exception.SerializationException;
 import org.wso2.carbon.uuf.maven.parser.DependencyTreeParser;
+import org.wso2.carbon.uuf.maven.parser.DependencyTreeYamlParser;
+import org.wso2.carbon.uuf.maven.parser.ParsedConfigCache;
 import org.wso2.carbon.uuf.maven.parser.YamlFileParser;
+import org.wso2.carbon.uuf.maven.serializer.AppIndexSerializer;
+import org.wso2.carbon.uuf.maven.serializer.DependencyTreeBinarySerializer;
 import org.wso2.carbon.uuf.maven.serializer.DependencyTreeSerializer;
-import org.wso2.carbon.uuf.maven.serializer.YamlSerializer;
+import org.wso2.carbon.uuf.maven.util.ApiRegistry;
+import org.wso2.carbon.uuf.maven.util.AppIndexBuilder;
+import org.wso2.carbon.uuf.maven.util.BindingResolver;
 import org.wso2.carbon.uuf.maven.util.ConfigFileCreator;
+import org.wso2.carbon.uuf.maven.util.DependencyTreeCache;
+import org.wso2.carbon.uuf.maven.util.LangBundleMerger;
+import org.wso2.carbon.uuf.maven.util.MenuFlattener;
+import org.wso2.carbon.uuf.maven.util.RouteTable;
+import org.wso2.carbon.uuf.maven.util.UnusedComponentAnalyzer;
+import org.wso2.carbon.uuf.maven.util.UriPrefixTable;
 
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.twdata.maven.mojoexecutor.MojoExecutor.artifactId;
 import static org.twdata.maven.mojoexecutor.MojoExecutor.configuration;
@@ -72,11 +100,24 @@ import static org.twdata.maven.mojoexecutor.MojoExecutor.version;
 public class AppMojo extends ComponentMojo {
 
     private static final String FILE_APP_CONFIG = "app.yaml";
+    private static final String FILE_APP_CONFIG_PROFILE = "app-%s.yaml";
+    private static final String FILE_COMPONENT_CONFIG_PROFILE = "component-%s.yaml";
+    private static final Pattern PROFILE_NAME_PATTERN = Pattern.compile("[a-zA-Z0-9][a-zA-Z0-9._-]*");
+    private static final String KEY_CONFIG = "config";
+    private static final String KEY_CSRF_IGNORE_URIS = "csrfIgnoreUris";
+    private static final String KEY_XSS_IGNORE_URIS = "xssIgnoreUris";
     private static final String FILE_DEPENDENCY_TREE = "dependency.tree";
+    private static final String FILE_DEPENDENCY_TREE_CACHE = "dependency-tree.cache";
     private static final String DIRECTORY_COMPONENTS = "components";
     private static final String DIRECTORY_THEMES = "themes";
     private static final String DIRECTORY_ROOT_COMPONENT = "root";
+    private static final String DIRECTORY_FRAGMENTS = "fragments";
+    private static final String DIRECTORY_LANG = "lang";
     private static final String APP_ARTIFACT_ID_TAIL = ".feature";
+    private static final String MANIFEST_BUNDLE_SYMBOLIC_NAME = "Bundle-SymbolicName";
+    private static final String UNUSED_COMPONENTS_IGNORE = "ignore";
+    private static final String UNUSED_COMPONENTS_REPORT = "report";
+    private static final String UNUSED_COMPONENTS_EXCLUDE = "exclude";
 
     /**
      * The Maven session associated with this Mojo.
@@ -109,6 +150,38 @@ public class AppMojo extends ComponentMojo {
     @Parameter(defaultValue = "3.0.0", readonly = true, required = false)
     private String carbonFeaturePluginVersion;
 
+    /**
+     * Whether to reuse the dependency tree computed in a previous build when the UUF Component dependencies have not
+     * changed since then.
+     */
+    @Parameter(property = "uuf.dependencyTreeCache", defaultValue = "true", required = false)
+    private boolean dependencyTreeCache;
+
+    /**
+     * Whether to write the final configuration of the app in JSON ({@code configuration.json}) too, which is cheaper
+     * to load at runtime than the YAML one.
+     */
+    @Parameter(property = "uuf.configurationJson", defaultValue = "false", required = false)
+    private boolean configurationJson;
+
+    /**
+     * Profiles (e.g. environments) to create pre-merged configurations for. For each profile, {@code
+     * app-<profile>.yaml} of the app and {@code component-<profile>.yaml} files of the components, when present, are
+     * merged over the base configuration files and the result is written to {@code configuration-<profile>.yaml}.
+     */
+    @Parameter(property = "uuf.profiles", required = false)
+    private List<String> profiles;
+
+    /**
+     * What to do with the UUF Components that are not reachable from the App, i.e. components without pages, APIs,
+     * configurations, bindings, OSGi bundles, i18n files or public resources whose fragments and layouts are not
+     * referred by any used component.
+     * Either {@code ignore} (keep them without analyzing), {@code report} (keep them and log a warning for each) or
+     * {@code exclude} (remove them from the App and its dependency tree).
+     */
+    @Parameter(property = "uuf.unusedComponents", defaultValue = UNUSED_COMPONENTS_IGNORE, required = false)
+    private String unusedComponents;
+
     /**
      * Plugin manager to execute other Maven plugins.
      */
@@ -123,20 +196,15 @@ public class AppMojo extends ComponentMojo {
         // Do validations.
         validate();
 
-        // Compute the App's fully qualified name by removing ".feature" from the artifact ID.
-        String appFullyQualifiedName = artifactId.substring(0, (artifactId.length() - APP_ARTIFACT_ID_TAIL.length()));
-        outputDirectoryPath += appFullyQualifiedName;
+        String appFullyQualifiedName = getAppFullyQualifiedName();
         // Categorize dependencies.
+        Set<Artifact> allComponentDependencies = getComponentDependencies();
         @SuppressWarnings("unchecked")
-        Set<Artifact> allDependencies = project.getArtifacts();
-        Set<Artifact> allComponentDependencies = allDependencies.stream()
-                .filter(artifact -> ARTIFACT_TYPE_UUF_COMPONENT.equals(artifact.getClassifier()))
-                .collect(Collectors.toSet());
-        Set<Artifact> allThemeDependencies = allDependencies.stream()
+        Set<Artifact> allThemeDependencies = ((Set<Artifact>) project.getArtifacts()).stream()
                 .filter(artifact -> ARTIFACT_TYPE_UUF_THEME.equals(artifact.getClassifier()))
                 .collect(Collectors.toSet());
-        String allComponentsDirectory = pathOf(outputDirectoryPath, DIRECTORY_COMPONENTS);
-        String allThemesDirectory = pathOf(outputDirectoryPath, DIRECTORY_THEMES);
+        String allComponentsDirectory = getComponentsDirectoryPath();
+        String allThemesDirectory = getThemesDirectoryPath();
 
         // 1. Unpack UUF Component dependencies.
         unpackDependencies(allComponentDependencies, allComponentsDirectory);
@@ -150,11 +218,26 @@ public class AppMojo extends ComponentMojo {
         }
         // 3.1. Create dependency tree.
         DependencyNode rootNode = getDependencyTree(allComponentDependencies);
-        // 3.2. Read the bundle-dependencies.yaml file of all the components and add the entries the "bundles" instance.
+        // 3.2. Report or exclude the components that are not used in the app, if requested.
+        rootNode = handleUnusedComponents(rootNode, allComponentsDirectory);
+        // 3.3. Read the bundle-dependencies.yaml file of all the components and add the entries the "bundles" instance.
         addComponentBundleDependencies(rootNode, allComponentsDirectory);
-        // 3.3. Create the final configuration.
-        createConfigurationFile(rootNode, allComponentsDirectory);
-        // 3.4. Create dependency tree file.
+        // 3.4. Create the route table of the pages of all the components.
+        RouteTable routeTable = createRoutesFile(rootNode, allComponentsDirectory);
+        // 3.5. Create the final configuration and a final configuration for each profile, along with the compiled
+        //      security URIs, response header blocks and flattened menus of each.
+        createConfigurationFiles(rootNode, routeTable, allComponentsDirectory);
+        // 3.6. Resolve bindings of all the components into the final fragments of each zone.
+        createZonesFile(rootNode, allComponentsDirectory);
+        // 3.7. Register APIs of all the components and verify them against the bundles of the app.
+        createApisFile(rootNode, allComponentsDirectory);
+        // 3.8. Merge language files of all the components into a bundle per locale.
+        createLangBundles(rootNode, allComponentsDirectory);
+        // 3.9. Create the app index, which holds the metadata and the templates of all the components.
+        createAppIndex(rootNode, allComponentsDirectory);
+        // 3.10. Report the changes in the dependency tree since the previous build.
+        reportDependencyTreeDiff(rootNode, allComponentsDirectory);
+        // 3.11. Create dependency tree files (YAML and binary).
         createDependencyTree(rootNode, allComponentsDirectory);
         // 4. Unpack UUF Theme dependencies.
         unpackDependencies(allThemeDependencies, allThemesDirectory);
@@ -162,7 +245,12 @@ public class AppMojo extends ComponentMojo {
         createCarbonFeature(appFullyQualifiedName);
     }
 
-    private void validate() throws MojoExecutionException {
+    /**
+     * Validates the packaging type, the artifact ID and the configuration files of the App.
+     *
+     * @throws MojoExecutionException if the App is invalid
+     */
+    protected void validate() throws MojoExecutionException {
         // Validation: Packaging type should be 'carbon-feature'
         if (!ARTIFACT_TYPE_UUF_APP.equals(packaging)) {
             throw new MojoExecutionException(
@@ -177,21 +265,133 @@ public class AppMojo extends ComponentMojo {
         // Validation: Parse component configuration file to make sure it is valid.
         String componentConfigFilePath = pathOf(sourceDirectoryPath, FILE_COMPONENT_CONFIG);
         try {
-            YamlFileParser.parse(componentConfigFilePath, ComponentConfig.class);
+            ParsedConfigCache.parse(componentConfigFilePath, ComponentConfig.class, getYamlLimits());
         } catch (ParsingException e) {
             throw new MojoExecutionException("Component configuration file '" + componentConfigFilePath + "' of '" +
                                              artifactId + "' UUF App is invalid.", e);
         }
         // Validation: Parse app configuration file to make sure it is valid.
         parseAppConfig();
+        // Validation: Profile names are used in file names.
+        for (String profile : getProfiles()) {
+            if (!PROFILE_NAME_PATTERN.matcher(profile).matches()) {
+                throw new MojoExecutionException("Profile name '" + profile + "' of '" + artifactId +
+                                                 "' UUF App is invalid. It should match '" + PROFILE_NAME_PATTERN +
+                                                 "' pattern.");
+            }
+        }
+        // Validation: Unused components mode should be a known one.
+        if ((unusedComponents != null) && !UNUSED_COMPONENTS_IGNORE.equals(unusedComponents) &&
+            !UNUSED_COMPONENTS_REPORT.equals(unusedComponents) && !UNUSED_COMPONENTS_EXCLUDE.equals(unusedComponents)) {
+            throw new MojoExecutionException("Unused components mode '" + unusedComponents + "' of '" + artifactId +
+                                             "' UUF App is invalid. It should be '" + UNUSED_COMPONENTS_IGNORE +
+                                             "', '" + UNUSED_COMPONENTS_REPORT + "' or '" +
+                                             UNUSED_COMPONENTS_EXCLUDE + "'.");
+        }
+    }
+
+    /**
+     * Returns the fully qualified name of the App, which is the artifact ID without the ".feature" tail.
+     *
+     * @return fully qualified name of the App
+     */
+    protected String getAppFullyQualifiedName() {
+        return artifactId.substring(0, (artifactId.length() - APP_ARTIFACT_ID_TAIL.length()));
     }
 
-    private DependencyNode getDependencyTree(Set<Artifact> componentDependencies) throws MojoExecutionException {
+    /**
+     * Returns the path to the "components" directory of the App being assembled.
+     *
+     * @return path to the "components" directory
+     */
+    protected String getComponentsDirectoryPath() {
+        return pathOf(outputDirectoryPath, getAppFullyQualifiedName(), DIRECTORY_COMPONENTS);
+    }
+
+    /**
+     * Returns the path to the "themes" directory of the App being assembled.
+     *
+     * @return path to the "themes" directory
+     */
+    protected String getThemesDirectoryPath() {
+        return pathOf(outputDirectoryPath, getAppFullyQualifiedName(), DIRECTORY_THEMES);
+    }
+
+    /**
+     * Returns the name of the directory of the UUF Component reflected by the specified node, within the
+     * "components" directory of the App.
+     *
+     * @param node a node in the dependency tree of the App
+     * @return directory name of the UUF Component
+     */
+    protected String getComponentDirectoryName(DependencyNode node) {
+        return artifactId.equals(node.getArtifactId()) ? DIRECTORY_ROOT_COMPONENT : node.getContextPath();
+    }
+
+    /**
+     * Returns the prefix of the URIs of the pages of the UUF Component reflected by the specified node. Pages of the
+     * root component are served from the root of the App.
+     *
+     * @param node a node in the dependency tree of the App
+     * @return URI prefix, empty for the root component
+     */
+    protected String getPageUriPrefix(DependencyNode node) {
+        return artifactId.equals(node.getArtifactId()) ? "" : ("/" + node.getContextPath());
+    }
+
+    /**
+     * Returns the distinct UUF Components in the specified dependency tree in the traversal order. A component that
+     * several components depend on appears in the tree more than once, but is unpacked only once.
+     *
+     * @param rootNode root node of the dependency tree of the App
+     * @return a node of each UUF Component
+     */
+    protected List<DependencyNode> getDistinctComponents(DependencyNode rootNode) {
+        Set<String> directoryNames = new HashSet<>();
+        return rootNode.stream()
+                .filter(node -> directoryNames.add(getComponentDirectoryName(node)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the UUF Component dependencies of the App.
+     *
+     * @return UUF Component dependencies
+     */
+    protected Set<Artifact> getComponentDependencies() {
+        @SuppressWarnings("unchecked")
+        Set<Artifact> allDependencies = project.getArtifacts();
+        return allDependencies.stream()
+                .filter(artifact -> ARTIFACT_TYPE_UUF_COMPONENT.equals(artifact.getClassifier()))
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Computes the dependency tree of the App.
+     *
+     * @param componentDependencies UUF Component dependencies of the App
+     * @return root node of the dependency tree
+     * @throws MojoExecutionException if cannot generate or parse the dependency tree
+     */
+    protected DependencyNode getDependencyTree(Set<Artifact> componentDependencies) throws MojoExecutionException {
         if (componentDependencies.isEmpty()) {
             // There are no component dependencies. So only one node is in the dependency tree and its the root app.
             return new DependencyNode(this.artifactId, this.version, null);
         }
 
+        String cacheFilePath = pathOf(tempDirectoryPath, FILE_DEPENDENCY_TREE_CACHE);
+        String cacheKey = null;
+        if (dependencyTreeCache) {
+            cacheKey = DependencyTreeCache.computeKey(artifactId, version, project.getDependencies(),
+                                                      componentDependencies, dependencyPluginVersion);
+            DependencyNode cachedRootNode = DependencyTreeCache.read(cacheFilePath, cacheKey);
+            if (cachedRootNode != null) {
+                getLog().info("UUF Component dependencies of '" + artifactId +
+                              "' have not changed, reusing the cached dependency tree in '" + cacheFilePath + "'.");
+                return cachedRootNode;
+            }
+        }
+
         String dependencyTreeFilePath = tempDirectoryPath + FILE_DEPENDENCY_TREE;
         try {
             executeMojo(
@@ -214,49 +414,299 @@ public class AppMojo extends ComponentMojo {
             throw new MojoExecutionException(
                     "Cannot generate dependency tree for '" + artifactId + "'.", e);
         }
+        DependencyNode rootNode;
         try {
-            return DependencyTreeParser.parse(dependencyTreeFilePath);
+            rootNode = DependencyTreeParser.parse(dependencyTreeFilePath);
         } catch (ParsingException e) {
             throw new MojoExecutionException(
                     "Cannot parse generated dependency tree in '" + dependencyTreeFilePath + "'.", e);
         }
+        if (dependencyTreeCache) {
+            DependencyTreeCache.write(cacheFilePath, cacheKey, rootNode);
+        }
+        return rootNode;
     }
 
-    private void createConfigurationFile(DependencyNode rootNode, String componentsDirectory)
+    private void createConfigurationFiles(DependencyNode rootNode, RouteTable routeTable, String componentsDirectory)
             throws MojoExecutionException {
-        Configuration configuration = new Configuration(parseAppConfig());
-        // Create the final configuration by traversing through the dependency tree.
-        try {
-            rootNode.traverse(node -> {
-                String configFilePath = getFilePathIn(node, componentsDirectory, FILE_COMPONENT_CONFIG);
-                // Since we are in a lambda, we throw RuntimeExceptions.
-                ComponentConfig componentConfig;
-                try {
-                    componentConfig = YamlFileParser.parse(configFilePath, ComponentConfig.class);
-                } catch (ParsingException e) {
-                    throw new RuntimeException("Cannot parse '" + FILE_COMPONENT_CONFIG + "' of " + node +
-                                               " which read from '" + configFilePath + "' path.", e);
-                }
-                try {
-                    configuration.merge(componentConfig.getConfig());
-                } catch (IllegalArgumentException e) {
-                    throw new RuntimeException(
-                            "Cannot merge configuration Map parsed from '" + FILE_COMPONENT_CONFIG + "' of " + node +
-                            " which read from '" + configFilePath + "' path.", e);
-                }
-            });
-        } catch (RuntimeException e) {
-            // Catch above thrown RuntimeExceptions.
-            throw new MojoExecutionException("Cannot create final configuration for " + rootNode + ".", e);
+        List<Map<?, ?>> componentConfigs = getComponentConfigs(rootNode, componentsDirectory, FILE_COMPONENT_CONFIG);
+        createConfigurationFile(parseAppConfig(), componentConfigs, rootNode, routeTable, componentsDirectory, null);
+        for (String profile : getProfiles()) {
+            // Overlays of a profile are merged after all the base component configurations.
+            List<Map<?, ?>> profileComponentConfigs = new ArrayList<>(componentConfigs);
+            profileComponentConfigs.addAll(getComponentConfigs(rootNode, componentsDirectory,
+                                                               String.format(FILE_COMPONENT_CONFIG_PROFILE, profile)));
+            createConfigurationFile(parseAppConfig(profile), profileComponentConfigs, rootNode, routeTable,
+                                    componentsDirectory, profile);
         }
+    }
+
+    private void createConfigurationFile(AppConfig appConfig, List<Map<?, ?>> componentConfigs,
+                                         DependencyNode rootNode, RouteTable routeTable, String componentsDirectory,
+                                         String profile) throws MojoExecutionException {
+        Configuration configuration = new Configuration(appConfig);
+        // Top level keys of the component configurations are strings (see withStringKeys), hence they always merge.
+        configuration.mergeAll(componentConfigs);
         // Now create the app's configuration file by serializing the final configuration.
-        String content;
+        ConfigFileCreator.createConfigurationFiles(configuration, componentsDirectory, profile, configurationJson);
+        // Compile security URIs, so the runtime need not scan them for each request.
+        AppConfig.SecurityConfig securityConfig = configuration.getSecurity();
+        Map<String, UriPrefixTable> uriPrefixTables = new LinkedHashMap<>();
+        uriPrefixTables.put(KEY_CSRF_IGNORE_URIS, new UriPrefixTable(securityConfig.getCsrfIgnoreUris()));
+        uriPrefixTables.put(KEY_XSS_IGNORE_URIS, new UriPrefixTable(securityConfig.getXssIgnoreUris()));
+        uriPrefixTables.forEach((name, uriPrefixTable) -> uriPrefixTable.getIssues().forEach(
+                issue -> getLog().warn("URI " + issue + " in '" + name + "' of '" + artifactId + "' UUF App" +
+                                       ((profile == null) ? "" : (" for '" + profile + "' profile")) + ".")));
+        ConfigFileCreator.createSecurityUrisYaml(uriPrefixTables, componentsDirectory, profile);
+        // Render response headers into blocks, so the runtime can write them to each response at once.
+        ConfigFileCreator.createResponseHeaderBlocks(securityConfig.getResponseHeaders(), componentsDirectory, profile);
+        // Flatten menus, so the runtime need not walk the menu trees for each page render. Client-side context path
+        // of the app defaults to the context path of its root component.
+        String contextPath = (configuration.getContextPath() == null) ? ("/" + rootNode.getContextPath()) :
+                configuration.getContextPath();
+        MenuFlattener menuFlattener = new MenuFlattener(contextPath, routeTable::hasRoute);
+        Map<String, List<Map<String, Object>>> menus = menuFlattener.flatten(configuration.getMenus());
+        menuFlattener.getUnresolvedLinks().forEach(
+                link -> getLog().warn("There is no page for link " + link + " of '" + artifactId + "' UUF App" +
+                                      ((profile == null) ? "" : (" for '" + profile + "' profile")) + "."));
+        ConfigFileCreator.createMenusYaml(menus, componentsDirectory, profile);
+    }
+
+    /**
+     * Returns the "config" sections of the specified component configuration file of each node in the dependency tree
+     * traversal order. A component that several components depend on is returned for each of its nodes, so merging
+     * the result gives exactly the configuration of a sequential traversal. Components without the base component
+     * configuration file fail, while missing profile overlay files are skipped.
+     *
+     * @param rootNode            the current app's dependency node (i.e the root node of the app)
+     * @param componentsDirectory the "components" directory within the app
+     * @param fileName            name of the component configuration file
+     * @return "config" sections of the components, {@code null} for a component without a "config" section
+     * @throws MojoExecutionException if a component configuration file cannot be parsed
+     */
+    private List<Map<?, ?>> getComponentConfigs(DependencyNode rootNode, String componentsDirectory,
+                                                String fileName) throws MojoExecutionException {
+        boolean optional = !FILE_COMPONENT_CONFIG.equals(fileName);
+        List<Map<?, ?>> componentConfigs = new ArrayList<>();
+        for (DependencyNode node : rootNode) {
+            String configFilePath = getFilePathIn(node, componentsDirectory, fileName);
+            if (optional && !Files.exists(Paths.get(configFilePath))) {
+                continue;
+            }
+            // Only the "config" section is needed here, hence skip parsing the rest of the component configuration.
+            Object config;
+            try {
+                config = ParsedConfigCache.parseSections(configFilePath, getYamlLimits(), KEY_CONFIG).get(KEY_CONFIG);
+            } catch (ParsingException e) {
+                throw new MojoExecutionException("Cannot parse '" + fileName + "' of " + node +
+                                                 " which read from '" + configFilePath + "' path.", e);
+            }
+            if ((config != null) && !(config instanceof Map)) {
+                throw new MojoExecutionException(
+                        "Value of '" + KEY_CONFIG + "' in '" + fileName + "' of " + node +
+                        " which read from '" + configFilePath + "' path should be a Map. Instead found '" +
+                        config.getClass().getName() + "'.");
+            }
+            componentConfigs.add(withStringKeys((Map<?, ?>) config));
+        }
+        return componentConfigs;
+    }
+
+    private DependencyNode handleUnusedComponents(DependencyNode rootNode, String componentsDirectory)
+            throws MojoExecutionException {
+        if ((unusedComponents == null) || UNUSED_COMPONENTS_IGNORE.equals(unusedComponents)) {
+            return rootNode;
+        }
+
+        UnusedComponentAnalyzer unusedComponentAnalyzer = new UnusedComponentAnalyzer(Paths.get(componentsDirectory));
+        Map<String, String> directoryNames = new HashMap<>();
+        for (DependencyNode node : getDistinctComponents(rootNode)) {
+            ComponentConfig componentConfig = parseComponentConfig(node, componentsDirectory);
+            unusedComponentAnalyzer.addComponent(node.getFullyQualifiedName(), getComponentDirectoryName(node),
+                                                 componentConfig, artifactId.equals(node.getArtifactId()));
+            directoryNames.put(node.getFullyQualifiedName(), getComponentDirectoryName(node));
+        }
+        List<String> unusedComponentNames = unusedComponentAnalyzer.getUnusedComponents();
+        if (unusedComponentNames.isEmpty()) {
+            getLog().debug("All UUF Components of '" + artifactId + "' UUF App are used.");
+            return rootNode;
+        }
+        if (UNUSED_COMPONENTS_REPORT.equals(unusedComponents)) {
+            unusedComponentNames.forEach(name -> getLog().warn(
+                    "UUF Component '" + name + "' is not used in '" + artifactId + "' UUF App."));
+            return rootNode;
+        }
+
+        for (String unusedComponentName : unusedComponentNames) {
+            Path componentDirectory = Paths.get(componentsDirectory, directoryNames.get(unusedComponentName));
+            try {
+                deleteDirectory(componentDirectory);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Cannot delete '" + componentDirectory + "' directory of unused '" +
+                                                 unusedComponentName + "' UUF Component.", e);
+            }
+            getLog().info("Excluded UUF Component '" + unusedComponentName + "' as it is not used in '" +
+                          artifactId + "' UUF App.");
+        }
+        Set<String> excludedComponentNames = new HashSet<>(unusedComponentNames);
+        return rootNode.prune(node -> !excludedComponentNames.contains(node.getFullyQualifiedName()));
+    }
+
+    private static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            // Delete the children before their parents.
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    private void createZonesFile(DependencyNode rootNode, String componentsDirectory) throws MojoExecutionException {
+        Set<String> fragments = new HashSet<>();
+        for (DependencyNode node : getDistinctComponents(rootNode)) {
+            fragments.addAll(findFragments(node, componentsDirectory));
+        }
+        // Bindings are applied in the dependency tree traversal order, so a component can override its dependencies.
+        BindingResolver bindingResolver = new BindingResolver(fragments);
+        for (DependencyNode node : getDistinctComponents(rootNode)) {
+            ComponentConfig componentConfig = parseComponentConfig(node, componentsDirectory);
+            bindingResolver.addBindings(node.getFullyQualifiedName(), componentConfig.getBindings());
+        }
+        ConfigFileCreator.createZonesYaml(bindingResolver.getZones(), componentsDirectory);
+    }
+
+    private void createApisFile(DependencyNode rootNode, String componentsDirectory) throws MojoExecutionException {
+        ApiRegistry apiRegistry = new ApiRegistry();
+        for (DependencyNode node : getDistinctComponents(rootNode)) {
+            ComponentConfig componentConfig = parseComponentConfig(node, componentsDirectory);
+            apiRegistry.addApis(node.getFullyQualifiedName(), getPageUriPrefix(node), componentConfig.getApis());
+        }
+        List<Map<String, String>> apis = apiRegistry.getApis();
+        if (apis.isEmpty()) {
+            return;
+        }
+
+        Set<String> symbolicNames = (bundles == null) ? Collections.emptySet() :
+                bundles.stream().map(Bundle::getSymbolicName).collect(Collectors.toCollection(TreeSet::new));
+        if (symbolicNames.isEmpty()) {
+            getLog().warn("'" + artifactId + "' UUF App has APIs but no bundles, hence skipped verifying the API " +
+                          "classes.");
+        } else {
+            Map<String, File> bundleFiles = getBundleFiles(symbolicNames);
+            Set<String> missingBundles = new TreeSet<>(symbolicNames);
+            missingBundles.removeAll(bundleFiles.keySet());
+            Set<String> unverifiedClassNames = apiRegistry.verifyClasses(new ArrayList<>(bundleFiles.values()),
+                                                                         missingBundles);
+            if (!unverifiedClassNames.isEmpty()) {
+                getLog().warn("Cannot verify API classes " + String.join(", ", unverifiedClassNames) + " of '" +
+                              artifactId + "' UUF App, as JAR files of bundles " + String.join(", ", missingBundles) +
+                              " cannot be found among its dependencies.");
+            }
+        }
+        ConfigFileCreator.createApisYaml(apis, componentsDirectory);
+    }
+
+    /**
+     * Returns the JAR files of the specified bundles that are among the dependencies of the app. Bundles are declared
+     * with their symbolic names, hence the dependencies of the app are matched against them using the
+     * "Bundle-SymbolicName" header of their manifests.
+     *
+     * @param symbolicNames symbolic names of the bundles
+     * @return JAR files of the found bundles keyed by their symbolic names
+     * @throws MojoExecutionException if the JAR file of a dependency cannot be read
+     */
+    private Map<String, File> getBundleFiles(Set<String> symbolicNames) throws MojoExecutionException {
+        Map<String, File> bundleFiles = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        Set<Artifact> allDependencies = project.getArtifacts();
+        for (Artifact artifact : allDependencies) {
+            File file = artifact.getFile();
+            if ((file == null) || !file.isFile() || !file.getName().endsWith(".jar")) {
+                continue;
+            }
+            String symbolicName;
+            try (JarFile jarFile = new JarFile(file)) {
+                Manifest manifest = jarFile.getManifest();
+                symbolicName = (manifest == null) ? null :
+                        manifest.getMainAttributes().getValue(MANIFEST_BUNDLE_SYMBOLIC_NAME);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Cannot read manifest of '" + file + "'.", e);
+            }
+            if (symbolicName == null) {
+                continue;
+            }
+            // Directives (e.g. ";singleton:=true") may follow the symbolic name.
+            int indexOfSemicolon = symbolicName.indexOf(';');
+            symbolicName = ((indexOfSemicolon == -1) ? symbolicName : symbolicName.substring(0, indexOfSemicolon))
+                    .trim();
+            if (symbolicNames.contains(symbolicName)) {
+                bundleFiles.put(symbolicName, file);
+            }
+        }
+        return bundleFiles;
+    }
+
+    private RouteTable createRoutesFile(DependencyNode rootNode, String componentsDirectory)
+            throws MojoExecutionException {
+        RouteTable routeTable = new RouteTable(Paths.get(componentsDirectory));
+        for (DependencyNode node : getDistinctComponents(rootNode)) {
+            routeTable.addPages(node.getFullyQualifiedName(), getComponentDirectoryName(node), getPageUriPrefix(node));
+        }
+        ConfigFileCreator.createRoutesYaml(routeTable.getRoutes(), componentsDirectory);
+        return routeTable;
+    }
+
+    private void createLangBundles(DependencyNode rootNode, String componentsDirectory)
+            throws MojoExecutionException {
+        LangBundleMerger langBundleMerger = new LangBundleMerger();
+        for (DependencyNode node : getDistinctComponents(rootNode)) {
+            langBundleMerger.addLangFiles(node.getFullyQualifiedName(),
+                                          Paths.get(getFilePathIn(node, componentsDirectory, DIRECTORY_LANG)));
+        }
+        langBundleMerger.getCollisions().forEach(collision -> getLog().warn("Language message " + collision + "."));
+        ConfigFileCreator.createLangBundles(langBundleMerger.getBundles(), componentsDirectory);
+    }
+
+    private void createAppIndex(DependencyNode rootNode, String componentsDirectory) throws MojoExecutionException {
+        AppIndexBuilder appIndexBuilder = new AppIndexBuilder(Paths.get(componentsDirectory));
+        for (DependencyNode node : getDistinctComponents(rootNode)) {
+            ComponentConfig componentConfig = parseComponentConfig(node, componentsDirectory);
+            appIndexBuilder.addComponent(node.getFullyQualifiedName(), getComponentDirectoryName(node),
+                                         getPageUriPrefix(node), componentConfig);
+        }
+        AppIndex appIndex = appIndexBuilder.build(rootNode);
         try {
-            content = YamlSerializer.serialize(configuration);
+            ConfigFileCreator.createAppIndex(AppIndexSerializer.serialize(appIndex), componentsDirectory);
         } catch (SerializationException e) {
-            throw new MojoExecutionException("Cannot serialize configuration " + configuration + ".", e);
+            throw new MojoExecutionException("Cannot serialize app index where root node is " + rootNode + ".", e);
+        }
+    }
+
+    private Set<String> findFragments(DependencyNode node, String componentsDirectory)
+            throws MojoExecutionException {
+        Path fragmentsDirectory = Paths.get(getFilePathIn(node, componentsDirectory, DIRECTORY_FRAGMENTS));
+        if (!Files.isDirectory(fragmentsDirectory)) {
+            return Collections.emptySet();
         }
-        ConfigFileCreator.createConfigurationYaml(content, componentsDirectory);
+        try (Stream<Path> fragmentDirectories = Files.list(fragmentsDirectory)) {
+            return fragmentDirectories
+                    .filter(Files::isDirectory)
+                    .map(fragmentDirectory -> node.getFullyQualifiedName() + "." + fragmentDirectory.getFileName())
+                    .collect(Collectors.toSet());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot list fragments of " + node + " in '" + fragmentsDirectory + "'.",
+                                             e);
+        }
+    }
+
+    private static Map<?, ?> withStringKeys(Map<?, ?> config) {
+        if ((config == null) || config.keySet().stream().allMatch(key -> key instanceof String)) {
+            return config;
+        }
+        // Top level keys of the "config" section are always strings, as when it was bound to ComponentConfig bean.
+        Map<String, Object> stringKeyedConfig = new LinkedHashMap<>();
+        config.forEach((key, value) -> stringKeyedConfig.put(String.valueOf(key), value));
+        return stringKeyedConfig;
     }
 
     /**
@@ -269,47 +719,85 @@ public class AppMojo extends ComponentMojo {
      */
     private void addComponentBundleDependencies(DependencyNode rootNode, String componentsDirectory)
             throws MojoExecutionException {
+        if (bundles == null) {
+            bundles = new ArrayList<>();
+        }
+        for (DependencyNode node : rootNode) {
+            String bundleDependenciesFilePath = getFilePathIn(node, componentsDirectory, FILE_BUNDLES);
+            if (!Files.exists(Paths.get(bundleDependenciesFilePath))) {
+                continue;
+            }
+            BundleListConfig bundleListConfig;
+            try {
+                bundleListConfig = ParsedConfigCache.parse(bundleDependenciesFilePath, BundleListConfig.class,
+                                                          getYamlLimits());
+            } catch (ParsingException e) {
+                throw new MojoExecutionException("Cannot parse '" + FILE_BUNDLES + "' of " + node +
+                                                 " which read from '" + bundleDependenciesFilePath + "' path.", e);
+            }
+            if (bundleListConfig.getBundles() != null) {
+                bundles.addAll(bundleListConfig.getBundles());
+            }
+            //delete the file after reading its content to prevent it from getting packed with the app
+            try {
+                Files.delete(Paths.get(bundleDependenciesFilePath));
+            } catch (IOException e) {
+                throw new MojoExecutionException("Cannot delete '" + FILE_BUNDLES + "' of " + node +
+                                                 " which read from '" + bundleDependenciesFilePath + "' path.", e);
+            }
+        }
+    }
+
+    /**
+     * Compares the specified dependency tree with the dependency tree created in the previous build (if any) and
+     * reports the differences.
+     *
+     * @param rootNode            root node of the current dependency tree
+     * @param componentsDirectory the "components" directory within the app
+     * @return differences of the dependency trees, or {@code null} if there is no readable previous dependency tree
+     * @throws MojoExecutionException if cannot write the report
+     */
+    protected DependencyTreeDiff reportDependencyTreeDiff(DependencyNode rootNode, String componentsDirectory)
+            throws MojoExecutionException {
+        String previousTreeFilePath = pathOf(componentsDirectory, ConfigFileCreator.FILE_DEPENDENCY_TREE);
+        if (!Files.exists(Paths.get(previousTreeFilePath))) {
+            return null; // First build, hence nothing to compare with.
+        }
+
+        DependencyNode previousRootNode;
         try {
-            rootNode.traverse(node -> {
-                String bundleDependenciesFilePath = getFilePathIn(node, componentsDirectory, FILE_BUNDLES);
-                if (!Files.exists(Paths.get(bundleDependenciesFilePath))) {
-                    return;
-                }
-                BundleListConfig bundleListConfig = null;
-                try {
-                    bundleListConfig = YamlFileParser.parse(bundleDependenciesFilePath, BundleListConfig.class);
-                } catch (ParsingException e) {
-                    throw new RuntimeException("Cannot parse '" + FILE_BUNDLES + "' of " + node +
-                                               " which read from '" + bundleDependenciesFilePath + "' path.", e);
-                }
-                if (bundleListConfig == null) {
-                    return;
-                }
-                bundleListConfig.getBundles().forEach(bundles::add);
-                //delete the file after reading its content to prevent it from getting packed with the app
-                try {
-                    Files.delete(Paths.get(bundleDependenciesFilePath));
-                } catch (IOException e) {
-                    throw new RuntimeException("Cannot delete '" + FILE_BUNDLES + "' of " + node +
-                                               " which read from '" + bundleDependenciesFilePath + "' path.", e);
-                }
-            });
-        } catch (Exception e) {
-            throw new MojoExecutionException(
-                    "Cannot add component level bundle dependencies for " + rootNode + ".", e);
+            previousRootNode = DependencyTreeYamlParser.parse(previousTreeFilePath);
+        } catch (ParsingException e) {
+            // The diff is only a report, hence an unreadable previous tree (e.g. written by an older version of this
+            // plugin) should not fail the build.
+            getLog().warn("Cannot parse previous dependency tree in '" + previousTreeFilePath +
+                          "', hence skipped comparing dependency trees.", e);
+            return null;
+        }
+        DependencyTreeDiff dependencyTreeDiff = DependencyTreeDiff.compute(previousRootNode, rootNode);
+        List<String> report = dependencyTreeDiff.toReport();
+        if (dependencyTreeDiff.hasChanges()) {
+            report.forEach(line -> getLog().info(line));
+        } else {
+            getLog().debug(report.get(0));
         }
+        ConfigFileCreator.createDependencyTreeDiff(report, tempDirectoryPath);
+        return dependencyTreeDiff;
     }
 
     private void createDependencyTree(DependencyNode rootNode, String componentsDirectory)
             throws MojoExecutionException {
         String content;
+        byte[] binaryContent;
         try {
             content = DependencyTreeSerializer.serialize(rootNode);
+            binaryContent = DependencyTreeBinarySerializer.serialize(rootNode);
         } catch (SerializationException e) {
             throw new MojoExecutionException(
                     "Cannot serialize dependency tree where root node is " + rootNode + ".", e);
         }
         ConfigFileCreator.createDependencyTree(content, componentsDirectory);
+        ConfigFileCreator.createDependencyTreeBinary(binaryContent, componentsDirectory);
     }
 
     private void createCarbonFeature(String appFullyQualifiedName) throws MojoExecutionException {
@@ -405,19 +893,56 @@ public class AppMojo extends ComponentMojo {
         }
     }
 
+    /**
+     * Parses the component configuration file of the UUF Component reflected by the specified node.
+     *
+     * @param node                a node in the dependency tree of the App
+     * @param componentsDirectory the "components" directory within the app
+     * @return component configuration
+     * @throws MojoExecutionException if the component configuration file cannot be parsed
+     */
+    private ComponentConfig parseComponentConfig(DependencyNode node, String componentsDirectory)
+            throws MojoExecutionException {
+        String configFilePath = getFilePathIn(node, componentsDirectory, FILE_COMPONENT_CONFIG);
+        try {
+            return ParsedConfigCache.parse(configFilePath, ComponentConfig.class, getYamlLimits());
+        } catch (ParsingException e) {
+            throw new MojoExecutionException("Cannot parse '" + FILE_COMPONENT_CONFIG + "' of " + node +
+                                             " which read from '" + configFilePath + "' path.", e);
+        }
+    }
+
     private String getFilePathIn(DependencyNode node, String componentsDirectory, String fileName) {
-        if (artifactId.equals(node.getArtifactId())) {
-            // root component
-            return pathOf(componentsDirectory, DIRECTORY_ROOT_COMPONENT, fileName);
-        } else {
-            return pathOf(componentsDirectory, node.getContextPath(), fileName);
+        return pathOf(componentsDirectory, getComponentDirectoryName(node), fileName);
+    }
+
+    /**
+     * Returns the profiles to create pre-merged configurations for.
+     *
+     * @return profile names, empty if there are no profiles
+     */
+    protected List<String> getProfiles() {
+        return (profiles == null) ? Collections.emptyList() : profiles;
+    }
+
+    private AppConfig parseAppConfig(String profile) throws MojoExecutionException {
+        String appConfigFilePath = pathOf(sourceDirectoryPath, FILE_APP_CONFIG);
+        String overlayFilePath = pathOf(sourceDirectoryPath, String.format(FILE_APP_CONFIG_PROFILE, profile));
+        if (!Files.exists(Paths.get(overlayFilePath))) {
+            return parseAppConfig();
+        }
+        try {
+            return YamlFileParser.parse(appConfigFilePath, overlayFilePath, AppConfig.class, getYamlLimits());
+        } catch (ParsingException e) {
+            throw new MojoExecutionException("App configuration file '" + overlayFilePath + "' of '" + artifactId +
+                                             "' UUF App for '" + profile + "' profile is invalid.", e);
         }
     }
 
     private AppConfig parseAppConfig() throws MojoExecutionException {
         String appConfigFilePath = pathOf(sourceDirectoryPath, FILE_APP_CONFIG);
         try {
-            return YamlFileParser.parse(appConfigFilePath, AppConfig.class);
+            return YamlFileParser.parse(appConfigFilePath, AppConfig.class, getYamlLimits());
         } catch (ParsingException e) {
             throw new MojoExecutionException("App configuration file '" + appConfigFilePath + "' of '" +
                                              artifactId + "' UUF App is invalid.", e);
@@ -29,7 +29,7 @@ import org.wso2.carbon.uuf.maven.bean.DependencyNode;
 import org.wso2.carbon.uuf.maven.bean.mojo.Bundle;
 import org.wso2.carbon.uuf.maven.bean.mojo.Instructions;
 import org.wso2.carbon.uuf.maven.exception.ParsingException;
-import org.wso2.carbon.uuf.maven.parser.YamlFileParser;
+import org.wso2.carbon.uuf.maven.parser.ParsedConfigCache;
 import org.wso2.carbon.uuf.maven.util.ConfigFileCreator;
 import org.wso2.carbon.uuf.maven.util.ZipCreator;
 
@@ -82,7 +82,7 @@ public class ComponentMojo extends AbstractUUFMojo {
         // Validation: Parse component configuration file to make sure it is valid.
         String componentConfigFilePath = pathOf(sourceDirectoryPath, FILE_COMPONENT_CONFIG);
         try {
-            YamlFileParser.parse(componentConfigFilePath, ComponentConfig.class);
+            ParsedConfigCache.parse(componentConfigFilePath, ComponentConfig.class, getYamlLimits());
         } catch (ParsingException e) {
             throw new MojoExecutionException("Component configuration file '" + componentConfigFilePath + "' of '" +
                                              artifactId + "' UUF Component is invalid.", e);
@@ -25,7 +25,7 @@ import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.ResolutionScope;
 import org.wso2.carbon.uuf.maven.bean.ThemeConfig;
 import org.wso2.carbon.uuf.maven.exception.ParsingException;
-import org.wso2.carbon.uuf.maven.parser.YamlFileParser;
+import org.wso2.carbon.uuf.maven.parser.ParsedConfigCache;
 import org.wso2.carbon.uuf.maven.util.ZipCreator;
 
 import java.io.File;
@@ -56,7 +56,7 @@ public class ThemeMojo extends AbstractUUFMojo {
         // Validation: Parse configuration file to make sure it is a valid YAML file.
         String themeConfigFilePath = pathOf(sourceDirectoryPath, FILE_THEME);
         try {
-            YamlFileParser.parse(themeConfigFilePath, ThemeConfig.class);
+            ParsedConfigCache.parse(themeConfigFilePath, ThemeConfig.class, getYamlLimits());
         } catch (ParsingException e) {
             throw new MojoExecutionException("Theme configuration file '" + themeConfigFilePath + "' of '" +
                                                      artifactId + "' UUF Theme is invalid.", e);
@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.bean.DependencyTreeDiff;
+
+/**
+ * UUF Application dependency tree diff Mojo. Compares the dependency tree of the App with the dependency tree created
+ * by the previous "create-app" execution and reports added, removed and re-versioned UUF Components.
+ *
+ * @since 1.0.0
+ */
+@Mojo(name = "tree-diff", inheritByDefault = false, requiresDependencyResolution = ResolutionScope.COMPILE,
+      threadSafe = true, defaultPhase = LifecyclePhase.PREPARE_PACKAGE)
+public class TreeDiffMojo extends AppMojo {
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        // Do validations.
+        validate();
+
+        DependencyNode rootNode = getDependencyTree(getComponentDependencies());
+        DependencyTreeDiff dependencyTreeDiff = reportDependencyTreeDiff(rootNode, getComponentsDirectoryPath());
+        if (dependencyTreeDiff == null) {
+            getLog().info("There is no readable previous dependency tree for '" + artifactId + "' in '" +
+                          getComponentsDirectoryPath() + "' to compare with.");
+        } else if (!dependencyTreeDiff.hasChanges()) {
+            getLog().info("Dependency tree of '" + artifactId + "' has not changed since the previous build.");
+        }
+    }
+}
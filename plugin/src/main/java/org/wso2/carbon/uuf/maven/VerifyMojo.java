@@ -0,0 +1,125 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.wso2.carbon.uuf.maven.bean.AppConfig;
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.parser.DependencyTreeYamlParser;
+import org.wso2.carbon.uuf.maven.parser.YamlFileParser;
+import org.wso2.carbon.uuf.maven.util.AppVerifier;
+import org.wso2.carbon.uuf.maven.util.ConfigFileCreator;
+
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * UUF Application verify Mojo. Checks that the cross-references in the App assembled by the previous "create-app"
+ * execution resolve, so that broken references fail the build instead of the App at runtime.
+ *
+ * @since 1.0.0
+ */
+@Mojo(name = "verify", inheritByDefault = false, requiresDependencyResolution = ResolutionScope.COMPILE,
+      threadSafe = true, defaultPhase = LifecyclePhase.VERIFY)
+public class VerifyMojo extends AppMojo {
+
+    private static final String KEY_THEME = "theme";
+    private static final String KEY_LOGIN_PAGE_URI = "loginPageUri";
+    private static final String KEY_ERROR_PAGES = "errorPages";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        // Do validations.
+        validate();
+
+        String dependencyTreeFilePath = pathOf(getComponentsDirectoryPath(), ConfigFileCreator.FILE_DEPENDENCY_TREE);
+        if (!Files.exists(Paths.get(dependencyTreeFilePath))) {
+            throw new MojoExecutionException("Cannot find the dependency tree of '" + artifactId + "' in '" +
+                                             dependencyTreeFilePath + "'. Run \"create-app\" goal first.");
+        }
+        DependencyNode rootNode;
+        try {
+            rootNode = DependencyTreeYamlParser.parse(dependencyTreeFilePath);
+        } catch (ParsingException e) {
+            throw new MojoExecutionException("Cannot parse dependency tree in '" + dependencyTreeFilePath + "'.", e);
+        }
+
+        AppVerifier appVerifier = new AppVerifier(Paths.get(getComponentsDirectoryPath()),
+                                                  Paths.get(getThemesDirectoryPath()), getYamlLimits());
+        for (DependencyNode node : getDistinctComponents(rootNode)) {
+            appVerifier.addComponent(node.getFullyQualifiedName(), getComponentDirectoryName(node),
+                                     getPageUriPrefix(node));
+        }
+        List<String> errors = new ArrayList<>(appVerifier.verify());
+        // Verify the configurations assembled by "create-app", as the App runs with those, not with its app.yaml.
+        errors.addAll(appVerifier.verify(parseConfiguration(null)));
+        for (String profile : getProfiles()) {
+            appVerifier.verify(parseConfiguration(profile))
+                    .forEach(error -> errors.add("[" + profile + "] " + error));
+        }
+
+        if (!errors.isEmpty()) {
+            StringBuilder message = new StringBuilder("UUF App '").append(artifactId).append("' has ")
+                    .append(errors.size()).append(" unresolved reference(s):");
+            errors.forEach(error -> message.append("\n  - ").append(error));
+            throw new MojoExecutionException(message.toString());
+        }
+        getLog().info("All references in UUF App '" + artifactId + "' resolve.");
+    }
+
+    /**
+     * Parses the theme, login page URI and error pages from the configuration file that the "create-app" goal
+     * assembled for the specified profile.
+     *
+     * @param profile profile of the configuration, or {@code null} for the base configuration
+     * @return app configuration holding the theme, login page URI and error pages
+     * @throws MojoExecutionException if the configuration file does not exist or is invalid
+     */
+    @SuppressWarnings("unchecked")
+    private AppConfig parseConfiguration(String profile) throws MojoExecutionException {
+        String configurationFilePath = pathOf(getComponentsDirectoryPath(),
+                                              ConfigFileCreator.getConfigurationFileName(profile));
+        if (!Files.exists(Paths.get(configurationFilePath))) {
+            throw new MojoExecutionException("Cannot find the configuration of '" + artifactId + "' in '" +
+                                             configurationFilePath + "'. Run \"create-app\" goal first.");
+        }
+        AppConfig appConfig = new AppConfig();
+        try {
+            Map<?, ?> configuration = YamlFileParser.parseMap(configurationFilePath, getYamlLimits());
+            appConfig.setTheme((String) configuration.get(KEY_THEME));
+            appConfig.setLoginPageUri((String) configuration.get(KEY_LOGIN_PAGE_URI));
+            appConfig.setErrorPages((Map<String, String>) configuration.get(KEY_ERROR_PAGES));
+        } catch (ParsingException | ClassCastException | IllegalArgumentException e) {
+            throw new MojoExecutionException("Cannot parse configuration of '" + artifactId + "' in '" +
+                                             configurationFilePath + "'.", e);
+        }
+        return appConfig;
+    }
+}
@@ -19,8 +19,11 @@
 package org.wso2.carbon.uuf.maven.bean;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 import java.util.regex.Pattern;
 
 /**
@@ -556,7 +559,7 @@ public class AppConfig {
          * @param responseHeaders HTTP response headers to be set
          */
         public void setResponseHeaders(ResponseHeaders responseHeaders) {
-            this.responseHeaders = responseHeaders;
+            this.responseHeaders = (responseHeaders == null) ? new ResponseHeaders() : responseHeaders;
         }
     }
 
@@ -566,6 +569,10 @@ public class AppConfig {
      * @since 1.0.0
      */
     public static class ResponseHeaders {
+
+        private static final Pattern HEADER_NAME_PATTERN = Pattern.compile("[!#$%&'*+\\-.^_`|~0-9a-zA-Z]+");
+        private static final Pattern HEADER_VALUE_PATTERN = Pattern.compile("[\\x20-\\x7E\\t]*");
+
         private Map<String, String> staticResources = Collections.emptyMap();
         private Map<String, String> pages = Collections.emptyMap();
 
@@ -582,9 +589,13 @@ public class AppConfig {
          * Sets the HTTP response headers for static contents.
          *
          * @param staticResources HTTP response headers to be set
+         * @throws IllegalArgumentException if a header name is not a valid HTTP token, if a header value is null or
+         *                                  contains characters other than visible ASCII characters, spaces and tabs,
+         *                                  or if a header is set more than once
          */
         public void setStaticResources(Map<String, String> staticResources) {
-            this.staticResources = staticResources;
+            validateHeaders(staticResources, "static resources");
+            this.staticResources = (staticResources == null) ? Collections.emptyMap() : staticResources;
         }
 
         /**
@@ -600,9 +611,40 @@ public class AppConfig {
          * Sets the HTTP response headers for pages.
          *
          * @param pages HTTP response headers to be set
+         * @throws IllegalArgumentException if a header name is not a valid HTTP token, if a header value is null or
+         *                                  contains characters other than visible ASCII characters, spaces and tabs,
+         *                                  or if a header is set more than once
          */
         public void setPages(Map<String, String> pages) {
-            this.pages = pages;
+            validateHeaders(pages, "pages");
+            this.pages = (pages == null) ? Collections.emptyMap() : pages;
+        }
+
+        private static void validateHeaders(Map<String, String> headers, String target) {
+            if (headers == null) {
+                return;
+            }
+            Set<String> headerNames = new HashSet<>();
+            for (Map.Entry<String, String> entry : headers.entrySet()) {
+                String name = entry.getKey();
+                String value = entry.getValue();
+                if ((name == null) || !HEADER_NAME_PATTERN.matcher(name).matches()) {
+                    throw new IllegalArgumentException(
+                            "Name of a response header for " + target + " in the app's config must be a valid " +
+                                    "HTTP token. Instead found '" + name + "'.");
+                } else if (!headerNames.add(name.toLowerCase(Locale.ENGLISH))) {
+                    throw new IllegalArgumentException("Response header '" + name + "' for " + target +
+                                                               " in the app's config is set more than once.");
+                } else if (value == null) {
+                    throw new IllegalArgumentException("Value of response header '" + name + "' for " + target +
+                                                               " in the app's config cannot be null.");
+                } else if (!HEADER_VALUE_PATTERN.matcher(value).matches()) {
+                    throw new IllegalArgumentException(
+                            "Value of response header '" + name + "' for " + target + " in the app's config can " +
+                                    "only contain visible ASCII characters, spaces and tabs. Instead found '" +
+                                    value + "'.");
+                }
+            }
         }
     }
 }
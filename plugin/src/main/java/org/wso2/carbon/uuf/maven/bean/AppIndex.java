@@ -0,0 +1,287 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.bean;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A bean class that represents the index of an UUF App, which holds the dependency tree of the app along with the
+ * bindings, APIs, OSGi imports and the pages, fragments and layouts of each component, so the runtime can load the
+ * app from a single file.
+ *
+ * @since 1.0.0
+ */
+public class AppIndex {
+
+    private final DependencyNode dependencyTree;
+    private final List<Component> components;
+    private final byte[] data;
+
+    /**
+     * Creates a new app index.
+     *
+     * @param dependencyTree root node of the dependency tree of the app
+     * @param components     components of the app in the dependency tree traversal order
+     * @param data           contents of the indexed files of the components, which the offsets of the files point to
+     */
+    public AppIndex(DependencyNode dependencyTree, List<Component> components, byte[] data) {
+        this.dependencyTree = dependencyTree;
+        this.components = Collections.unmodifiableList(components);
+        this.data = data;
+    }
+
+    /**
+     * Returns the dependency tree of the app.
+     *
+     * @return root node of the dependency tree
+     */
+    public DependencyNode getDependencyTree() {
+        return dependencyTree;
+    }
+
+    /**
+     * Returns the components of the app.
+     *
+     * @return components in the dependency tree traversal order
+     */
+    public List<Component> getComponents() {
+        return components;
+    }
+
+    /**
+     * Returns the contents of all the indexed files.
+     *
+     * @return contents of the indexed files, concatenated
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * Returns the content of the specified indexed file.
+     *
+     * @param file an indexed file of this app index
+     * @return content of the file
+     */
+    public byte[] getContent(IndexedFile file) {
+        return Arrays.copyOfRange(data, file.getOffset(), file.getOffset() + file.getLength());
+    }
+
+    /**
+     * A component in an app index.
+     *
+     * @since 1.0.0
+     */
+    public static class Component {
+
+        private final String fullyQualifiedName;
+        private final String directoryName;
+        private final String contextPath;
+        private final List<ComponentConfig.Binding> bindings;
+        private final List<ComponentConfig.API> apis;
+        private final String osgiImports;
+        private final List<IndexedFile> files;
+
+        /**
+         * Creates a new component entry.
+         *
+         * @param fullyQualifiedName fully qualified name of the component
+         * @param directoryName      name of the directory of the component within the "components" directory
+         * @param contextPath        context path of the component, empty for the root component
+         * @param bindings           bindings of the component
+         * @param apis               APIs of the component
+         * @param osgiImports        content of the OSGi imports file of the component, or {@code null} if there is none
+         * @param files              pages, fragments and layouts of the component
+         */
+        public Component(String fullyQualifiedName, String directoryName, String contextPath,
+                         List<ComponentConfig.Binding> bindings, List<ComponentConfig.API> apis, String osgiImports,
+                         List<IndexedFile> files) {
+            this.fullyQualifiedName = fullyQualifiedName;
+            this.directoryName = directoryName;
+            this.contextPath = contextPath;
+            this.bindings = Collections.unmodifiableList(bindings);
+            this.apis = Collections.unmodifiableList(apis);
+            this.osgiImports = osgiImports;
+            this.files = Collections.unmodifiableList(files);
+        }
+
+        /**
+         * Returns the fully qualified name of this component.
+         *
+         * @return fully qualified name
+         */
+        public String getFullyQualifiedName() {
+            return fullyQualifiedName;
+        }
+
+        /**
+         * Returns the name of the directory of this component within the "components" directory.
+         *
+         * @return directory name
+         */
+        public String getDirectoryName() {
+            return directoryName;
+        }
+
+        /**
+         * Returns the context path of this component.
+         *
+         * @return context path
+         */
+        public String getContextPath() {
+            return contextPath;
+        }
+
+        /**
+         * Returns the bindings of this component.
+         *
+         * @return bindings
+         */
+        public List<ComponentConfig.Binding> getBindings() {
+            return bindings;
+        }
+
+        /**
+         * Returns the APIs of this component.
+         *
+         * @return APIs
+         */
+        public List<ComponentConfig.API> getApis() {
+            return apis;
+        }
+
+        /**
+         * Returns the content of the OSGi imports file of this component.
+         *
+         * @return OSGi imports, or {@code null} if there is no OSGi imports file
+         */
+        public String getOsgiImports() {
+            return osgiImports;
+        }
+
+        /**
+         * Returns the indexed files of this component.
+         *
+         * @return pages, fragments and layouts
+         */
+        public List<IndexedFile> getFiles() {
+            return files;
+        }
+    }
+
+    /**
+     * A file of a component in an app index.
+     *
+     * @since 1.0.0
+     */
+    public static class IndexedFile {
+
+        private final FileKind kind;
+        private final String path;
+        private final int offset;
+        private final int length;
+
+        /**
+         * Creates a new indexed file.
+         *
+         * @param kind   kind of the file
+         * @param path   path of the file relative to the directory of its component, with '/' as the separator
+         * @param offset offset of the content of the file in the data of the app index
+         * @param length length of the content of the file
+         */
+        public IndexedFile(FileKind kind, String path, int offset, int length) {
+            this.kind = kind;
+            this.path = path;
+            this.offset = offset;
+            this.length = length;
+        }
+
+        /**
+         * Returns the kind of this file.
+         *
+         * @return kind
+         */
+        public FileKind getKind() {
+            return kind;
+        }
+
+        /**
+         * Returns the path of this file relative to the directory of its component.
+         *
+         * @return relative path, with '/' as the separator
+         */
+        public String getPath() {
+            return path;
+        }
+
+        /**
+         * Returns the offset of the content of this file in the data of the app index.
+         *
+         * @return offset
+         */
+        public int getOffset() {
+            return offset;
+        }
+
+        /**
+         * Returns the length of the content of this file.
+         *
+         * @return length in bytes
+         */
+        public int getLength() {
+            return length;
+        }
+    }
+
+    /**
+     * Kinds of the indexed files.
+     *
+     * @since 1.0.0
+     */
+    public enum FileKind {
+        /**
+         * A file in the "pages" directory of a component.
+         */
+        PAGE("pages"),
+        /**
+         * A file in the "fragments" directory of a component.
+         */
+        FRAGMENT("fragments"),
+        /**
+         * A file in the "layouts" directory of a component.
+         */
+        LAYOUT("layouts");
+
+        private final String directoryName;
+
+        FileKind(String directoryName) {
+            this.directoryName = directoryName;
+        }
+
+        /**
+         * Returns the name of the directory of a component which holds files of this kind.
+         *
+         * @return directory name
+         */
+        public String getDirectoryName() {
+            return directoryName;
+        }
+    }
+}
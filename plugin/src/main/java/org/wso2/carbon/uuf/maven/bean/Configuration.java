@@ -18,7 +18,8 @@
 
 package org.wso2.carbon.uuf.maven.bean;
 
-import java.util.HashMap;
+import org.wso2.carbon.uuf.maven.util.ConfigTree;
+
 import java.util.List;
 import java.util.Map;
 
@@ -29,7 +30,7 @@ import java.util.Map;
  */
 public class Configuration extends AppConfig {
 
-    private final Map<String, Object> otherConfigurations = new HashMap<>();
+    private Map<String, Object> otherConfigurations = ConfigTree.emptyMap();
 
     /**
      * Creates a new instance. Used for unit tests.
@@ -56,14 +57,15 @@ public class Configuration extends AppConfig {
     /**
      * Return the business-logic related configurations that are configured for the app.
      *
-     * @return business-logic related configurations
+     * @return business-logic related configurations as an immutable map
      */
     public Map<String, Object> getOther() {
         return otherConfigurations;
     }
 
     /**
-     * Merges the specified new configuration {@link Map} with this configuration.
+     * Merges the specified new configuration {@link Map} with this configuration. The specified map is not modified
+     * and none of its sub-trees are retained, hence it can be safely reused.
      *
      * @param rawMap map to merge
      * @throws IllegalArgumentException if keys of the {@code rawMap} are not strings.
@@ -73,66 +75,33 @@ public class Configuration extends AppConfig {
             return;
         }
 
-        for (Map.Entry<?, ?> newEntry : rawMap.entrySet()) {
-            if (!(newEntry.getKey() instanceof String)) {
-                throw new IllegalArgumentException(
-                        "'rawMap' variable must be a Map<String, Object>. Instead found a '" +
-                                newEntry.getKey().getClass().getName() + "' key.");
-            }
-
-            otherConfigurations.compute((String) newEntry.getKey(), (key, oldValue) -> {
-                Object newValue = newEntry.getValue();
-                if (oldValue == null) {
-                    return newValue; // There is no old value, so just add the new value.
-                }
-
-                if (newValue instanceof Map && oldValue instanceof Map) {
-                    // Both new value and old value are Maps, so merge new value Map to the old value Map..
-                    return deepMergeMap((Map) oldValue, (Map) newValue);
-                } else if (newValue instanceof List && oldValue instanceof List) {
-                    // Both new value and old value are Lists, so merge new value List to the old value List.
-                    return deepMergeList((List) oldValue, (List) newValue);
-                } else {
-                    // Cannot merge if not a Map nor a List, hence replace with the old value with new value.
-                    return newValue;
-                }
-            });
-        }
+        validateKeys(rawMap);
+        otherConfigurations = ConfigTree.merge(otherConfigurations, rawMap);
     }
 
-    @SuppressWarnings("unchecked")
-    private Map deepMergeMap(Map oldMap, Map newMap) {
-        for (Object key : newMap.keySet()) {
-            Object newValueObj = newMap.get(key);
-            Object oldValueObj = oldMap.get(key);
-            if (oldValueObj instanceof Map && newValueObj instanceof Map) {
-                oldMap.put(key, deepMergeMap((Map) oldValueObj, (Map) newValueObj));
-            } else if (oldValueObj instanceof List && newValueObj instanceof List) {
-                oldMap.put(key, deepMergeList((List) oldValueObj, (List) newValueObj));
-            } else {
-                oldMap.put(key, newValueObj);
+    /**
+     * Merges the specified new configuration {@link Map}s one after the other with this configuration. The result is
+     * exactly the same as {@link #merge(Map) merging} them sequentially, but the maps are combined in parallel.
+     *
+     * @param rawMaps maps to merge, in merging order
+     * @throws IllegalArgumentException if keys of a map in {@code rawMaps} are not strings.
+     */
+    public void mergeAll(List<? extends Map<?, ?>> rawMaps) {
+        for (Map<?, ?> rawMap : rawMaps) {
+            if (rawMap != null) {
+                validateKeys(rawMap);
             }
         }
-        return oldMap;
+        otherConfigurations = ConfigTree.mergeAll(otherConfigurations, rawMaps);
     }
 
-    @SuppressWarnings("unchecked")
-    private List deepMergeList(List oldList, List newList) {
-        for (Object newItemObj : newList) {
-            int oldIndex = oldList.indexOf(newItemObj);
-            if (oldIndex != -1) {
-                Object oldItemObj = oldList.get(oldIndex);
-                if (oldItemObj instanceof List && newItemObj instanceof List) {
-                    oldList.set(oldIndex, deepMergeList((List) oldItemObj, (List) newItemObj));
-                } else if (oldItemObj instanceof Map && newItemObj instanceof Map) {
-                    oldList.set(oldIndex, deepMergeMap((Map) oldItemObj, (Map) newItemObj));
-                } else {
-                    oldList.set(oldIndex, newItemObj);
-                }
-            } else {
-                oldList.add(newItemObj);
+    private static void validateKeys(Map<?, ?> rawMap) {
+        for (Object key : rawMap.keySet()) {
+            if (!(key instanceof String)) {
+                throw new IllegalArgumentException(
+                        "'rawMap' variable must be a Map<String, Object>. Instead found a '" +
+                                key.getClass().getName() + "' key.");
             }
         }
-        return oldList;
     }
 }
@@ -18,17 +18,27 @@
 
 package org.wso2.carbon.uuf.maven.bean;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A bean class that represents a node in the dependency tree.
  *
  * @since 1.0.0
  */
-public class DependencyNode {
+public class DependencyNode implements Iterable<DependencyNode> {
 
     private static final String ARTIFACT_ID_TAIL_UI = ".ui";
     private static final String ARTIFACT_ID_TAIL_FEATURE = ".feature";
@@ -108,6 +118,20 @@ public class DependencyNode {
         }
     }
 
+    /**
+     * Returns the fully qualified name of the UUF Component which is reflected by this node. Fragments, zones and
+     * other resources of the UUF Component are named relative to this name.
+     *
+     * @return fully qualified name of the UUF Component
+     */
+    public String getFullyQualifiedName() {
+        if (artifactId.endsWith(ARTIFACT_ID_TAIL_FEATURE)) {
+            return artifactId.substring(0, (artifactId.length() - ARTIFACT_ID_TAIL_FEATURE.length()));
+        } else {
+            return artifactId;
+        }
+    }
+
     /**
      * Returns the dependencies of the UUF Component which is reflected by this node.
      *
@@ -156,14 +180,137 @@ public class DependencyNode {
         return currentParent;
     }
 
+    /**
+     * Returns the path from the root node to this node.
+     *
+     * @return nodes from the root node to this node, both inclusive
+     */
+    public List<DependencyNode> getPath() {
+        LinkedList<DependencyNode> path = new LinkedList<>();
+        for (DependencyNode node = this; node != null; node = node.parent) {
+            path.addFirst(node);
+        }
+        return path;
+    }
+
+    /**
+     * Returns a copy of the tree rooted at this node without the nodes that do not match the specified predicate.
+     * Dependencies of a removed node become dependencies of its closest retained ancestor, unless that ancestor already
+     * has the same dependency. This node is always retained.
+     *
+     * @param predicate predicate that matches the nodes to retain
+     * @return root node of the pruned copy
+     */
+    public DependencyNode prune(Predicate<DependencyNode> predicate) {
+        DependencyNode prunedNode = new DependencyNode(artifactId, version, null);
+        addPrunedDependencies(this, prunedNode, predicate);
+        return prunedNode;
+    }
+
+    private static void addPrunedDependencies(DependencyNode node, DependencyNode prunedParent,
+                                              Predicate<DependencyNode> predicate) {
+        for (DependencyNode dependency : node.dependencies) {
+            if (!predicate.test(dependency)) {
+                addPrunedDependencies(dependency, prunedParent, predicate);
+            } else if (!prunedParent.dependencies.contains(dependency)) {
+                DependencyNode prunedDependency = new DependencyNode(dependency.artifactId, dependency.version,
+                                                                     prunedParent);
+                prunedParent.addDependency(prunedDependency);
+                addPrunedDependencies(dependency, prunedDependency, predicate);
+            }
+        }
+    }
+
     /**
      * Traverse this node and its dependencies in depth-first manner.
      *
      * @param nodeConsumer consumer that consumes each node
      */
     public void traverse(Consumer<DependencyNode> nodeConsumer) {
-        dependencies.forEach(dependencyNode -> dependencyNode.traverse(nodeConsumer));
-        nodeConsumer.accept(this);
+        iterator().forEachRemaining(nodeConsumer);
+    }
+
+    /**
+     * Returns an iterator over this node and its dependencies in post-order, which is the same order used by {@link
+     * #traverse(Consumer)}.
+     *
+     * @return post-order iterator
+     */
+    @Override
+    public Iterator<DependencyNode> iterator() {
+        return iterator(TraversalOrder.POST_ORDER);
+    }
+
+    /**
+     * Returns an iterator over this node and its dependencies in the specified order.
+     *
+     * @param order traversal order
+     * @return iterator over this node and its dependencies
+     */
+    public Iterator<DependencyNode> iterator(TraversalOrder order) {
+        return (order == TraversalOrder.PRE_ORDER) ? new PreOrderIterator(this) : new PostOrderIterator(this);
+    }
+
+    /**
+     * Returns a spliterator over this node and its dependencies in post-order.
+     *
+     * @return post-order spliterator
+     */
+    @Override
+    public Spliterator<DependencyNode> spliterator() {
+        return spliterator(TraversalOrder.POST_ORDER);
+    }
+
+    /**
+     * Returns a spliterator over this node and its dependencies in the specified order. The returned spliterator works
+     * on a snapshot of the tree taken at the time of this call and splits evenly, hence suits parallel processing.
+     *
+     * @param order traversal order
+     * @return spliterator over this node and its dependencies
+     */
+    public Spliterator<DependencyNode> spliterator(TraversalOrder order) {
+        List<DependencyNode> nodes = new ArrayList<>();
+        iterator(order).forEachRemaining(nodes::add);
+        return Spliterators.spliterator(nodes.toArray(new DependencyNode[nodes.size()]),
+                                        (Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE));
+    }
+
+    /**
+     * Returns a sequential stream of this node and its dependencies in post-order.
+     *
+     * @return sequential stream of nodes
+     */
+    public Stream<DependencyNode> stream() {
+        return stream(TraversalOrder.POST_ORDER);
+    }
+
+    /**
+     * Returns a sequential stream of this node and its dependencies in the specified order.
+     *
+     * @param order traversal order
+     * @return sequential stream of nodes
+     */
+    public Stream<DependencyNode> stream(TraversalOrder order) {
+        return StreamSupport.stream(spliterator(order), false);
+    }
+
+    /**
+     * Returns a possibly parallel stream of this node and its dependencies in post-order.
+     *
+     * @return parallel stream of nodes
+     */
+    public Stream<DependencyNode> parallelStream() {
+        return parallelStream(TraversalOrder.POST_ORDER);
+    }
+
+    /**
+     * Returns a possibly parallel stream of this node and its dependencies in the specified order.
+     *
+     * @param order traversal order
+     * @return parallel stream of nodes
+     */
+    public Stream<DependencyNode> parallelStream(TraversalOrder order) {
+        return StreamSupport.stream(spliterator(order), true);
     }
 
     /**
@@ -178,6 +325,14 @@ public class DependencyNode {
         return false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(artifactId, version);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -185,4 +340,94 @@ public class DependencyNode {
     public String toString() {
         return "{" + artifactId + ", " + version + "}";
     }
+
+    /**
+     * Orders in which a dependency tree can be traversed.
+     *
+     * @since 1.0.0
+     */
+    public enum TraversalOrder {
+        /**
+         * A node is visited before its dependencies.
+         */
+        PRE_ORDER,
+        /**
+         * A node is visited after its dependencies.
+         */
+        POST_ORDER
+    }
+
+    /**
+     * Iterator that visits a node before its dependencies.
+     */
+    private static class PreOrderIterator implements Iterator<DependencyNode> {
+
+        private final Deque<DependencyNode> pendingNodes = new ArrayDeque<>();
+
+        PreOrderIterator(DependencyNode rootNode) {
+            pendingNodes.push(rootNode);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pendingNodes.isEmpty();
+        }
+
+        @Override
+        public DependencyNode next() {
+            if (pendingNodes.isEmpty()) {
+                throw new NoSuchElementException("All nodes in the dependency tree have been visited.");
+            }
+            DependencyNode node = pendingNodes.pop();
+            for (int i = node.dependencies.size() - 1; i >= 0; i--) {
+                pendingNodes.push(node.dependencies.get(i));
+            }
+            return node;
+        }
+    }
+
+    /**
+     * Iterator that visits a node after its dependencies.
+     */
+    private static class PostOrderIterator implements Iterator<DependencyNode> {
+
+        private final Deque<DependencyNode> pendingNodes = new ArrayDeque<>();
+        private final Deque<Iterator<DependencyNode>> pendingDependencies = new ArrayDeque<>();
+
+        PostOrderIterator(DependencyNode rootNode) {
+            descend(rootNode);
+        }
+
+        private void descend(DependencyNode node) {
+            DependencyNode currentNode = node;
+            while (true) {
+                Iterator<DependencyNode> dependenciesIterator = currentNode.dependencies.iterator();
+                pendingNodes.push(currentNode);
+                pendingDependencies.push(dependenciesIterator);
+                if (!dependenciesIterator.hasNext()) {
+                    return;
+                }
+                currentNode = dependenciesIterator.next();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !pendingNodes.isEmpty();
+        }
+
+        @Override
+        public DependencyNode next() {
+            if (pendingNodes.isEmpty()) {
+                throw new NoSuchElementException("All nodes in the dependency tree have been visited.");
+            }
+            DependencyNode node = pendingNodes.pop();
+            pendingDependencies.pop();
+            if (!pendingDependencies.isEmpty() && pendingDependencies.peek().hasNext()) {
+                // Visit the next sibling (and its dependencies) before the parent.
+                descend(pendingDependencies.peek().next());
+            }
+            return node;
+        }
+    }
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.bean;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * A bean class that represents the differences between two dependency trees, usually the trees of two consecutive
+ * builds of the same UUF App.
+ *
+ * @since 1.0.0
+ */
+public class DependencyTreeDiff {
+
+    private final List<DependencyNode> addedComponents;
+    private final List<DependencyNode> removedComponents;
+    private final List<VersionChange> versionChanges;
+
+    private DependencyTreeDiff(List<DependencyNode> addedComponents, List<DependencyNode> removedComponents,
+                               List<VersionChange> versionChanges) {
+        this.addedComponents = Collections.unmodifiableList(addedComponents);
+        this.removedComponents = Collections.unmodifiableList(removedComponents);
+        this.versionChanges = Collections.unmodifiableList(versionChanges);
+    }
+
+    /**
+     * Computes the differences between the specified old and new dependency trees. Components are matched by their
+     * artifact IDs, hence this runs in time linear to the sizes of the two trees.
+     *
+     * @param oldRootNode root node of the old dependency tree
+     * @param newRootNode root node of the new dependency tree
+     * @return differences between the two dependency trees
+     */
+    public static DependencyTreeDiff compute(DependencyNode oldRootNode, DependencyNode newRootNode) {
+        Map<String, ComponentEntry> oldIndex = index(oldRootNode);
+        Map<String, ComponentEntry> newIndex = index(newRootNode);
+
+        List<DependencyNode> addedComponents = new ArrayList<>();
+        List<VersionChange> versionChanges = new ArrayList<>();
+        for (Map.Entry<String, ComponentEntry> newEntry : newIndex.entrySet()) {
+            ComponentEntry oldComponentEntry = oldIndex.get(newEntry.getKey());
+            if (oldComponentEntry == null) {
+                addedComponents.add(newEntry.getValue().firstNode);
+            } else if (!oldComponentEntry.versions.equals(newEntry.getValue().versions)) {
+                versionChanges.add(new VersionChange(newEntry.getKey(), oldComponentEntry.versions,
+                                                     newEntry.getValue().versions));
+            }
+        }
+        List<DependencyNode> removedComponents = oldIndex.entrySet().stream()
+                .filter(oldEntry -> !newIndex.containsKey(oldEntry.getKey()))
+                .map(oldEntry -> oldEntry.getValue().firstNode)
+                .collect(Collectors.toList());
+        return new DependencyTreeDiff(addedComponents, removedComponents, versionChanges);
+    }
+
+    private static Map<String, ComponentEntry> index(DependencyNode rootNode) {
+        Map<String, ComponentEntry> index = new LinkedHashMap<>();
+        Iterator<DependencyNode> iterator = rootNode.iterator(DependencyNode.TraversalOrder.PRE_ORDER);
+        while (iterator.hasNext()) {
+            DependencyNode node = iterator.next();
+            index.computeIfAbsent(node.getArtifactId(), artifactId -> new ComponentEntry(node))
+                    .versions.add(node.getVersion());
+        }
+        return index;
+    }
+
+    /**
+     * Returns the components that are only in the new dependency tree. Each component is represented by its first
+     * occurrence (in pre-order) in the new dependency tree.
+     *
+     * @return added components
+     */
+    public List<DependencyNode> getAddedComponents() {
+        return addedComponents;
+    }
+
+    /**
+     * Returns the components that are only in the old dependency tree. Each component is represented by its first
+     * occurrence (in pre-order) in the old dependency tree.
+     *
+     * @return removed components
+     */
+    public List<DependencyNode> getRemovedComponents() {
+        return removedComponents;
+    }
+
+    /**
+     * Returns the components that are in both dependency trees but with different versions.
+     *
+     * @return version changes of components
+     */
+    public List<VersionChange> getVersionChanges() {
+        return versionChanges;
+    }
+
+    /**
+     * Checks whether there are any differences between the two dependency trees.
+     *
+     * @return {@code true} if there are differences, otherwise {@code false}
+     */
+    public boolean hasChanges() {
+        return !(addedComponents.isEmpty() && removedComponents.isEmpty() && versionChanges.isEmpty());
+    }
+
+    /**
+     * Returns a human readable report of the differences. Added and removed components are reported with the
+     * dependency path through which they arrive, so that it is clear which dependency brought in a new transitive
+     * component.
+     *
+     * @return lines of the report
+     */
+    public List<String> toReport() {
+        List<String> lines = new ArrayList<>();
+        if (!hasChanges()) {
+            lines.add("No changes in the dependency tree.");
+            return lines;
+        }
+        addedComponents.forEach(node -> lines.add("+ " + node + " via " + toPathString(node)));
+        removedComponents.forEach(node -> lines.add("- " + node + " via " + toPathString(node)));
+        versionChanges.forEach(versionChange -> lines.add("~ " + versionChange));
+        lines.add(addedComponents.size() + " added, " + removedComponents.size() + " removed, " +
+                  versionChanges.size() + " re-versioned component(s).");
+        return lines;
+    }
+
+    private static String toPathString(DependencyNode node) {
+        return node.getPath().stream().map(DependencyNode::getArtifactId).collect(Collectors.joining(" > "));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "{added=" + addedComponents + ", removed=" + removedComponents + ", versionChanges=" + versionChanges +
+               "}";
+    }
+
+    private static class ComponentEntry {
+
+        private final DependencyNode firstNode;
+        private final Set<String> versions = new LinkedHashSet<>();
+
+        private ComponentEntry(DependencyNode firstNode) {
+            this.firstNode = firstNode;
+        }
+    }
+
+    /**
+     * A bean class that represents a version change of a component between two dependency trees.
+     *
+     * @since 1.0.0
+     */
+    public static class VersionChange {
+
+        private final String artifactId;
+        private final Set<String> oldVersions;
+        private final Set<String> newVersions;
+
+        VersionChange(String artifactId, Set<String> oldVersions, Set<String> newVersions) {
+            this.artifactId = artifactId;
+            this.oldVersions = Collections.unmodifiableSet(oldVersions);
+            this.newVersions = Collections.unmodifiableSet(newVersions);
+        }
+
+        /**
+         * Returns the artifact ID of the re-versioned component.
+         *
+         * @return artifact ID of the component
+         */
+        public String getArtifactId() {
+            return artifactId;
+        }
+
+        /**
+         * Returns the versions of the component in the old dependency tree.
+         *
+         * @return old versions of the component
+         */
+        public Set<String> getOldVersions() {
+            return oldVersions;
+        }
+
+        /**
+         * Returns the versions of the component in the new dependency tree.
+         *
+         * @return new versions of the component
+         */
+        public Set<String> getNewVersions() {
+            return newVersions;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if ((obj != null) && (obj instanceof VersionChange)) {
+                VersionChange other = (VersionChange) obj;
+                return Objects.equals(artifactId, other.artifactId) && Objects.equals(oldVersions, other.oldVersions)
+                       && Objects.equals(newVersions, other.newVersions);
+            }
+            return false;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(artifactId, oldVersions, newVersions);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public String toString() {
+            return artifactId + " " + oldVersions + " -> " + newVersions;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.bean.mojo;
+
+import java.util.Objects;
+
+/**
+ * Bean class that represents the resource limits applied when parsing YAML configuration files, specified inside a
+ * {@code <yamlLimits>} tag in a POM file.
+ *
+ * @since 1.0.0
+ */
+public class YamlLimits {
+
+    private long maxFileSize = 1024 * 1024;
+    private int maxAliasExpansion = 10000;
+    private int maxDepth = 64;
+    private int maxCollectionSize = 10000;
+
+    /**
+     * Returns the maximum size of a YAML configuration file in bytes.
+     *
+     * @return maximum file size in bytes
+     */
+    public long getMaxFileSize() {
+        return maxFileSize;
+    }
+
+    /**
+     * Sets the maximum size of a YAML configuration file in bytes.
+     *
+     * @param maxFileSize maximum file size in bytes
+     * @throws IllegalArgumentException if {@code maxFileSize} is not positive
+     */
+    public void setMaxFileSize(long maxFileSize) {
+        this.maxFileSize = requirePositive(maxFileSize, "maxFileSize");
+    }
+
+    /**
+     * Returns the maximum number of nodes that all the aliases in a YAML document can expand to. An alias expands to
+     * the anchored node and all of its descendants.
+     *
+     * @return maximum alias expansion in nodes
+     */
+    public int getMaxAliasExpansion() {
+        return maxAliasExpansion;
+    }
+
+    /**
+     * Sets the maximum number of nodes that all the aliases in a YAML document can expand to.
+     *
+     * @param maxAliasExpansion maximum alias expansion in nodes
+     * @throws IllegalArgumentException if {@code maxAliasExpansion} is not positive
+     */
+    public void setMaxAliasExpansion(int maxAliasExpansion) {
+        this.maxAliasExpansion = (int) requirePositive(maxAliasExpansion, "maxAliasExpansion");
+    }
+
+    /**
+     * Returns the maximum nesting depth of maps and lists in a YAML document, where the top level is depth 1.
+     *
+     * @return maximum nesting depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Sets the maximum nesting depth of maps and lists in a YAML document.
+     *
+     * @param maxDepth maximum nesting depth
+     * @throws IllegalArgumentException if {@code maxDepth} is not positive
+     */
+    public void setMaxDepth(int maxDepth) {
+        this.maxDepth = (int) requirePositive(maxDepth, "maxDepth");
+    }
+
+    /**
+     * Returns the maximum number of entries in a single map or list in a YAML document.
+     *
+     * @return maximum collection size
+     */
+    public int getMaxCollectionSize() {
+        return maxCollectionSize;
+    }
+
+    /**
+     * Sets the maximum number of entries in a single map or list in a YAML document.
+     *
+     * @param maxCollectionSize maximum collection size
+     * @throws IllegalArgumentException if {@code maxCollectionSize} is not positive
+     */
+    public void setMaxCollectionSize(int maxCollectionSize) {
+        this.maxCollectionSize = (int) requirePositive(maxCollectionSize, "maxCollectionSize");
+    }
+
+    private static long requirePositive(long value, String name) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("YAML limit '" + name + "' should be greater than 0.");
+        }
+        return value;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if ((obj != null) && (obj instanceof YamlLimits)) {
+            YamlLimits other = (YamlLimits) obj;
+            return (maxFileSize == other.maxFileSize) && (maxAliasExpansion == other.maxAliasExpansion) &&
+                    (maxDepth == other.maxDepth) && (maxCollectionSize == other.maxCollectionSize);
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxFileSize, maxAliasExpansion, maxDepth, maxCollectionSize);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "{maxFileSize=" + maxFileSize + ", maxAliasExpansion=" + maxAliasExpansion + ", maxDepth=" + maxDepth +
+                ", maxCollectionSize=" + maxCollectionSize + "}";
+    }
+}
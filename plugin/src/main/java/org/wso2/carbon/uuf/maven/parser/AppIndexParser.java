@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.wso2.carbon.uuf.maven.bean.AppIndex;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.serializer.AppIndexSerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Parser for app indexes serialized by {@link AppIndexSerializer}. This parser neither depends on a YAML library nor
+ * uses reflection.
+ *
+ * @since 1.0.0
+ */
+public class AppIndexParser {
+
+    /**
+     * Parses the specified app index file.
+     *
+     * @param appIndexFilePath path to app index file
+     * @return app index
+     * @throws ParsingException if cannot read or parse the content of the app index file
+     */
+    public static AppIndex parse(String appIndexFilePath) throws ParsingException {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(Paths.get(appIndexFilePath));
+        } catch (IOException e) {
+            throw new ParsingException("Cannot read the content of app index '" + appIndexFilePath + "'.", e);
+        }
+        return parseBytes(content);
+    }
+
+    /**
+     * Parses the specified app index.
+     *
+     * @param content app index to parse
+     * @return app index
+     * @throws ParsingException if the content is not a valid app index
+     */
+    public static AppIndex parseBytes(byte[] content) throws ParsingException {
+        try (DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(content))) {
+            int magicNumber = dataInputStream.readInt();
+            if (magicNumber != AppIndexSerializer.MAGIC_NUMBER) {
+                throw new ParsingException("Content is not an app index. Found magic number '" +
+                                           Integer.toHexString(magicNumber) + "'.");
+            }
+            short formatVersion = dataInputStream.readShort();
+            if (formatVersion != AppIndexSerializer.FORMAT_VERSION) {
+                throw new ParsingException("Unsupported app index format version '" + formatVersion +
+                                           "'. Expected version '" + AppIndexSerializer.FORMAT_VERSION + "'.");
+            }
+            DependencyNode rootNode = DependencyTreeBinaryParser.parseBytes(readBytes(dataInputStream,
+                                                                                      "dependency tree"));
+
+            int componentCount = readCount(dataInputStream, "components of the app");
+            List<AppIndex.Component> components = new ArrayList<>();
+            for (int i = 0; i < componentCount; i++) {
+                components.add(readComponent(dataInputStream));
+            }
+
+            byte[] data = readBytes(dataInputStream, "indexed files");
+            for (AppIndex.Component component : components) {
+                for (AppIndex.IndexedFile file : component.getFiles()) {
+                    if ((file.getOffset() < 0) || (file.getLength() < 0) ||
+                        ((long) file.getOffset() + file.getLength() > data.length)) {
+                        throw new ParsingException("Content of '" + file.getPath() + "' of '" +
+                                                   component.getFullyQualifiedName() + "' is out of the " +
+                                                   data.length + " bytes of indexed files.");
+                    }
+                }
+            }
+            return new AppIndex(rootNode, components, data);
+        } catch (IOException e) {
+            throw new ParsingException("Cannot read app index.", e);
+        } catch (IllegalArgumentException e) {
+            throw new ParsingException("App index contains an invalid binding or API.", e);
+        }
+    }
+
+    private static AppIndex.Component readComponent(DataInputStream dataInputStream)
+            throws IOException, ParsingException {
+        String fullyQualifiedName = readString(dataInputStream);
+        String directoryName = readString(dataInputStream);
+        String contextPath = readString(dataInputStream);
+
+        int bindingCount = readCount(dataInputStream, "bindings of '" + fullyQualifiedName + "'");
+        List<ComponentConfig.Binding> bindings = new ArrayList<>();
+        for (int i = 0; i < bindingCount; i++) {
+            ComponentConfig.Binding binding = new ComponentConfig.Binding();
+            binding.setZoneName(readString(dataInputStream));
+            binding.setMode(readString(dataInputStream));
+            int fragmentCount = readCount(dataInputStream, "fragments of a binding of '" + fullyQualifiedName + "'");
+            List<String> fragments = new ArrayList<>();
+            for (int j = 0; j < fragmentCount; j++) {
+                fragments.add(readString(dataInputStream));
+            }
+            binding.setFragments(fragments);
+            bindings.add(binding);
+        }
+
+        int apiCount = readCount(dataInputStream, "APIs of '" + fullyQualifiedName + "'");
+        List<ComponentConfig.API> apis = new ArrayList<>();
+        for (int i = 0; i < apiCount; i++) {
+            ComponentConfig.API api = new ComponentConfig.API();
+            api.setClassName(readString(dataInputStream));
+            api.setUri(readString(dataInputStream));
+            apis.add(api);
+        }
+
+        String osgiImports = dataInputStream.readBoolean() ? readString(dataInputStream) : null;
+
+        int fileCount = readCount(dataInputStream, "files of '" + fullyQualifiedName + "'");
+        AppIndex.FileKind[] kinds = AppIndex.FileKind.values();
+        List<AppIndex.IndexedFile> files = new ArrayList<>();
+        for (int i = 0; i < fileCount; i++) {
+            int kindOrdinal = dataInputStream.readByte();
+            if ((kindOrdinal < 0) || (kindOrdinal >= kinds.length)) {
+                throw new ParsingException("Unknown file kind '" + kindOrdinal + "' in files of '" +
+                                           fullyQualifiedName + "'.");
+            }
+            files.add(new AppIndex.IndexedFile(kinds[kindOrdinal], readString(dataInputStream),
+                                               dataInputStream.readInt(), dataInputStream.readInt()));
+        }
+        return new AppIndex.Component(fullyQualifiedName, directoryName, contextPath, bindings, apis, osgiImports,
+                                      files);
+    }
+
+    private static int readCount(DataInputStream dataInputStream, String description)
+            throws IOException, ParsingException {
+        int count = dataInputStream.readInt();
+        if (count < 0) {
+            throw new ParsingException("Count of " + description + " cannot be negative.");
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream dataInputStream) throws IOException, ParsingException {
+        return new String(readBytes(dataInputStream, "a string"), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] readBytes(DataInputStream dataInputStream, String description)
+            throws IOException, ParsingException {
+        int length = dataInputStream.readInt();
+        if ((length < 0) || (length > dataInputStream.available())) {
+            throw new ParsingException("Length of " + description + " is " + length + " bytes, but only " +
+                                       dataInputStream.available() + " bytes are remaining.");
+        }
+        byte[] bytes = new byte[length];
+        dataInputStream.readFully(bytes);
+        return bytes;
+    }
+}
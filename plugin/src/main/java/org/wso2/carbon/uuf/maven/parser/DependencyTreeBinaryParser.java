@@ -0,0 +1,130 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.serializer.DependencyTreeBinarySerializer;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Parser for dependency trees serialized by {@link DependencyTreeBinarySerializer}. This parser neither depends on a
+ * YAML library nor uses reflection.
+ *
+ * @since 1.0.0
+ */
+public class DependencyTreeBinaryParser {
+
+    /**
+     * Parses the specified binary dependency tree file.
+     *
+     * @param dependencyTreeFilePath path to binary dependency tree file
+     * @return root node of the dependency tree
+     * @throws ParsingException if cannot read or parse the content of the binary dependency tree file
+     */
+    public static DependencyNode parse(String dependencyTreeFilePath) throws ParsingException {
+        byte[] content;
+        try {
+            content = Files.readAllBytes(Paths.get(dependencyTreeFilePath));
+        } catch (IOException e) {
+            throw new ParsingException("Cannot read the content of dependency tree '" + dependencyTreeFilePath + "'.",
+                                       e);
+        }
+        return parseBytes(content);
+    }
+
+    /**
+     * Parses the specified binary dependency tree.
+     *
+     * @param content binary dependency tree to parse
+     * @return root node of the dependency tree
+     * @throws ParsingException if the content is not a valid binary dependency tree
+     */
+    public static DependencyNode parseBytes(byte[] content) throws ParsingException {
+        try (DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(content))) {
+            int magicNumber = dataInputStream.readInt();
+            if (magicNumber != DependencyTreeBinarySerializer.MAGIC_NUMBER) {
+                throw new ParsingException("Content is not a binary dependency tree. Found magic number '" +
+                                           Integer.toHexString(magicNumber) + "'.");
+            }
+            short formatVersion = dataInputStream.readShort();
+            if (formatVersion != DependencyTreeBinarySerializer.FORMAT_VERSION) {
+                throw new ParsingException("Unsupported binary dependency tree format version '" + formatVersion +
+                                           "'. Expected version '" + DependencyTreeBinarySerializer.FORMAT_VERSION +
+                                           "'.");
+            }
+            int nodeCount = dataInputStream.readInt();
+            if (nodeCount < 1) {
+                throw new ParsingException("A binary dependency tree should have at least one node. Instead found " +
+                                           nodeCount + " nodes.");
+            }
+
+            DependencyNode rootNode = null;
+            Deque<DependencyNode> parentNodes = new ArrayDeque<>(); // nodes that still expect dependencies
+            Deque<Integer> remainingDependencyCounts = new ArrayDeque<>();
+            for (int i = 0; i < nodeCount; i++) {
+                if ((i > 0) && parentNodes.isEmpty()) {
+                    throw new ParsingException("Binary dependency tree has " + nodeCount +
+                                               " nodes but the tree structure ends after " + i + " nodes.");
+                }
+                DependencyNode parentNode = parentNodes.peek();
+                String artifactId = dataInputStream.readUTF();
+                String version = dataInputStream.readUTF();
+                int dependencyCount = dataInputStream.readInt();
+                if (dependencyCount < 0) {
+                    throw new ParsingException("Dependency count of node {" + artifactId + ", " + version +
+                                               "} cannot be negative.");
+                }
+
+                DependencyNode node = new DependencyNode(artifactId, version, parentNode);
+                if (parentNode == null) {
+                    rootNode = node;
+                } else {
+                    parentNode.addDependency(node);
+                    int remainingDependencyCount = remainingDependencyCounts.pop() - 1;
+                    if (remainingDependencyCount > 0) {
+                        remainingDependencyCounts.push(remainingDependencyCount);
+                    } else {
+                        parentNodes.pop();
+                    }
+                }
+                if (dependencyCount > 0) {
+                    parentNodes.push(node);
+                    remainingDependencyCounts.push(dependencyCount);
+                }
+            }
+            if (!parentNodes.isEmpty()) {
+                throw new ParsingException("Binary dependency tree is truncated. Node " + parentNodes.peek() +
+                                           " expects " + remainingDependencyCounts.peek() + " more dependencies.");
+            }
+            return rootNode;
+        } catch (IOException e) {
+            throw new ParsingException("Cannot read binary dependency tree.", e);
+        } catch (IllegalArgumentException e) {
+            throw new ParsingException("Binary dependency tree contains an invalid node.", e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.util.YamlEngines;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parser for dependency tree YAML files created by
+ * {@link org.wso2.carbon.uuf.maven.serializer.DependencyTreeSerializer}.
+ *
+ * @since 1.0.0
+ */
+public class DependencyTreeYamlParser {
+
+    private static final String KEY_ARTIFACT_ID = "artifactId";
+    private static final String KEY_VERSION = "version";
+    private static final String KEY_DEPENDENCIES = "dependencies";
+
+    /**
+     * Parses the specified dependency tree YAML file.
+     *
+     * @param dependencyTreeFilePath path to dependency tree YAML file
+     * @return root node of the dependency tree
+     * @throws ParsingException if cannot read or parse the content of the dependency tree YAML file
+     */
+    public static DependencyNode parse(String dependencyTreeFilePath) throws ParsingException {
+        String content;
+        try {
+            content = new String(Files.readAllBytes(Paths.get(dependencyTreeFilePath)), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new ParsingException("Cannot read the content of dependency tree '" + dependencyTreeFilePath + "'.",
+                                       e);
+        }
+        try {
+            return parseString(content);
+        } catch (ParsingException e) {
+            throw new ParsingException("Cannot parse dependency tree '" + dependencyTreeFilePath + "'.", e);
+        }
+    }
+
+    /**
+     * Parses the specified dependency tree YAML content.
+     *
+     * @param dependencyTreeContent dependency tree YAML content to parse
+     * @return root node of the dependency tree
+     * @throws ParsingException if the content is not a valid dependency tree
+     */
+    static DependencyNode parseString(String dependencyTreeContent) throws ParsingException {
+        Object rootNodeMap;
+        try {
+            rootNodeMap = YamlEngines.loader().load(dependencyTreeContent);
+        } catch (Exception e) {
+            throw new ParsingException("Dependency tree content is not a valid YAML.", e);
+        }
+        if (!(rootNodeMap instanceof Map)) {
+            throw new ParsingException("Root of a dependency tree should be a Map. Instead found '" +
+                                       ((rootNodeMap == null) ? null : rootNodeMap.getClass().getName()) + "'.");
+        }
+        return createDependencyNode((Map<?, ?>) rootNodeMap, null);
+    }
+
+    private static DependencyNode createDependencyNode(Map<?, ?> nodeMap, DependencyNode parent)
+            throws ParsingException {
+        DependencyNode node;
+        try {
+            node = new DependencyNode(getString(nodeMap, KEY_ARTIFACT_ID), getString(nodeMap, KEY_VERSION), parent);
+        } catch (IllegalArgumentException e) {
+            throw new ParsingException("Dependency tree contains an invalid node " + nodeMap + ".", e);
+        }
+
+        Object dependencies = nodeMap.get(KEY_DEPENDENCIES);
+        if (dependencies == null) {
+            return node;
+        }
+        if (!(dependencies instanceof List)) {
+            throw new ParsingException("Dependencies of node " + node + " should be a List. Instead found '" +
+                                       dependencies.getClass().getName() + "'.");
+        }
+        for (Object dependency : (List<?>) dependencies) {
+            if (!(dependency instanceof Map)) {
+                throw new ParsingException("A dependency of node " + node + " should be a Map. Instead found '" +
+                                           ((dependency == null) ? null : dependency.getClass().getName()) + "'.");
+            }
+            node.addDependency(createDependencyNode((Map<?, ?>) dependency, node));
+        }
+        return node;
+    }
+
+    private static String getString(Map<?, ?> nodeMap, String key) {
+        Object value = nodeMap.get(key);
+        return (value == null) ? null : value.toString();
+    }
+}
@@ -0,0 +1,336 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.util.YamlEngines;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.AliasEvent;
+import org.yaml.snakeyaml.events.CollectionStartEvent;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.MappingStartEvent;
+import org.yaml.snakeyaml.events.NodeEvent;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.events.SequenceStartEvent;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeId;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Composes nodes from YAML events in the same way as {@link org.yaml.snakeyaml.composer.Composer}, while enforcing
+ * {@link YamlLimits}.
+ * <p>
+ * Limits are checked as events arrive, so an offending document is rejected as soon as it crosses a limit, before the
+ * rest of it is parsed. Expansion of aliases is accounted by the size of the anchored node, hence a document that
+ * nests aliases of aliases (a.k.a. "billion laughs") is rejected without expanding anything.
+ *
+ * @since 1.0.0
+ */
+class LimitedComposer {
+
+    private final Path configurationFile;
+    private final Iterator<Event> events;
+    private final YamlLimits limits;
+    private final boolean partial;
+    private final Resolver resolver = new Resolver();
+    private final Map<String, Node> anchors = new HashMap<>();
+    private final Map<Node, Expansion> expansions = new IdentityHashMap<>();
+    private long expandedNodes;
+    private long aliasExpansion;
+    private int deepestDepth;
+
+    /**
+     * Creates a new composer.
+     *
+     * @param configurationFile YAML file that the events are read from
+     * @param events            events of the YAML document
+     * @param limits            limits to enforce
+     * @param partial           whether only some parts of the document are composed; if {@code true}, an alias to an
+     *                          anchor that was not composed yields {@code null} instead of an error
+     */
+    LimitedComposer(Path configurationFile, Iterator<Event> events, YamlLimits limits, boolean partial) {
+        this.configurationFile = configurationFile;
+        this.events = events;
+        this.limits = limits;
+        this.partial = partial;
+    }
+
+    /**
+     * Returns the YAML events of the specified content.
+     *
+     * @param content content of a YAML file
+     * @return iterator over events
+     */
+    static Iterator<Event> events(byte[] content) {
+        return YamlEngines.loader().parse(
+                new InputStreamReader(new ByteArrayInputStream(content), StandardCharsets.UTF_8)).iterator();
+    }
+
+    /**
+     * Checks the size of the specified configuration file against the limits.
+     *
+     * @param configurationFile YAML file
+     * @param size              size of the YAML file in bytes
+     * @param limits            limits to enforce
+     * @throws ParsingException if the file is larger than the maximum file size
+     */
+    static void checkFileSize(Path configurationFile, long size, YamlLimits limits) throws ParsingException {
+        if (size > limits.getMaxFileSize()) {
+            throw new ParsingException("Configuration file '" + configurationFile + "' is " + size +
+                                       " bytes which exceeds the maximum file size of " + limits.getMaxFileSize() +
+                                       " bytes. See 'maxFileSize' of 'yamlLimits' plugin parameter.");
+        }
+    }
+
+    /**
+     * Composes the single document in the specified content of the given YAML file.
+     *
+     * @param configurationFile YAML file that the content was read from
+     * @param content           content of the YAML file
+     * @param limits            limits to enforce
+     * @return root node of the document, or {@code null} if there is no document
+     * @throws ParsingException if the content is not valid YAML, has more than one document or exceeds a limit
+     */
+    static Node composeDocument(Path configurationFile, byte[] content, YamlLimits limits) throws ParsingException {
+        checkFileSize(configurationFile, content.length, limits);
+        try {
+            Iterator<Event> events = events(content);
+            events.next(); // stream start
+            if (events.next().is(Event.ID.StreamEnd)) {
+                return null; // no document
+            }
+            Node document = new LimitedComposer(configurationFile, events, limits, false).compose(events.next(), 1);
+            events.next(); // document end
+            if (!events.next().is(Event.ID.StreamEnd)) {
+                throw new ParsingException(
+                        "Configuration file '" + configurationFile + "' should contain a single YAML document.");
+            }
+            return document;
+        } catch (YAMLException e) {
+            throw new ParsingException("Cannot parse the configuration file '" + configurationFile + "'.", e);
+        }
+    }
+
+    /**
+     * Composes the node that starts with the specified event.
+     *
+     * @param event first event of the node
+     * @param depth nesting depth of the node, where the root node is at depth 1
+     * @return composed node, or {@code null} if this is a partial composer and the node refers to an anchor that was
+     * not composed
+     * @throws ParsingException if the node exceeds a limit or refers to an unknown anchor
+     */
+    Node compose(Event event, int depth) throws ParsingException {
+        checkDepth(depth, event);
+        if (event instanceof AliasEvent) {
+            return composeAlias((AliasEvent) event, depth);
+        }
+
+        long startExpandedNodes = expandedNodes;
+        int startDeepestDepth = deepestDepth;
+        deepestDepth = depth;
+        expandedNodes++;
+        Node node;
+        if (event instanceof ScalarEvent) {
+            ScalarEvent scalarEvent = (ScalarEvent) event;
+            boolean resolved = isNonSpecific(scalarEvent.getTag());
+            Tag tag = resolved ?
+                    resolver.resolve(NodeId.scalar, scalarEvent.getValue(),
+                                     scalarEvent.getImplicit().canOmitTagInPlainScalar()) :
+                    new Tag(scalarEvent.getTag());
+            node = new ScalarNode(tag, resolved, scalarEvent.getValue(), event.getStartMark(), event.getEndMark(),
+                                  scalarEvent.getStyle());
+            putAnchor(scalarEvent, node);
+        } else if (event instanceof SequenceStartEvent) {
+            node = composeSequence((SequenceStartEvent) event, depth);
+        } else {
+            node = composeMapping((MappingStartEvent) event, depth);
+        }
+        if ((node != null) && (((NodeEvent) event).getAnchor() != null)) {
+            expansions.put(node, new Expansion(expandedNodes - startExpandedNodes, deepestDepth - depth + 1));
+        }
+        deepestDepth = Math.max(startDeepestDepth, deepestDepth);
+        return node;
+    }
+
+    /**
+     * Skips the node that starts with the specified event without composing it.
+     *
+     * @param event first event of the node
+     * @param depth nesting depth of the node, where the root node is at depth 1
+     * @throws ParsingException if the node is nested deeper than the maximum depth
+     */
+    void skip(Event event, int depth) throws ParsingException {
+        if (!(event instanceof CollectionStartEvent)) {
+            return; // scalar or alias
+        }
+        checkDepth(depth, event);
+        int currentDepth = depth;
+        while (currentDepth >= depth) {
+            Event nextEvent = events.next();
+            if (nextEvent instanceof CollectionStartEvent) {
+                checkDepth(++currentDepth, nextEvent);
+            } else if (nextEvent.is(Event.ID.MappingEnd) || nextEvent.is(Event.ID.SequenceEnd)) {
+                currentDepth--;
+            }
+        }
+    }
+
+    /**
+     * Checks the number of entries of a map or a list against the limits.
+     *
+     * @param size  number of entries so far
+     * @param event event of the last entry
+     * @throws ParsingException if there are more entries than the maximum collection size
+     */
+    void checkCollectionSize(int size, Event event) throws ParsingException {
+        if (size > limits.getMaxCollectionSize()) {
+            throw limitExceeded("collection size of " + limits.getMaxCollectionSize() + " entries",
+                                "maxCollectionSize", event.getStartMark());
+        }
+    }
+
+    private Node composeAlias(AliasEvent event, int depth) throws ParsingException {
+        Node node = anchors.get(event.getAnchor());
+        if (node == null) {
+            if (partial) {
+                return null;
+            }
+            throw new ParsingException("Configuration file '" + configurationFile + "' refers to undefined alias '" +
+                                       event.getAnchor() + "'" + at(event.getStartMark()) + ".");
+        }
+        Expansion expansion = expansions.get(node);
+        if (expansion == null) {
+            throw new ParsingException("Configuration file '" + configurationFile + "' has a recursive alias '" +
+                                       event.getAnchor() + "'" + at(event.getStartMark()) + ".");
+        }
+        aliasExpansion += expansion.nodes;
+        if (aliasExpansion > limits.getMaxAliasExpansion()) {
+            throw limitExceeded("alias expansion of " + limits.getMaxAliasExpansion() + " nodes", "maxAliasExpansion",
+                                event.getStartMark());
+        }
+        expandedNodes += expansion.nodes;
+        int expandedDepth = depth + expansion.height - 1;
+        checkDepth(expandedDepth, event);
+        deepestDepth = Math.max(deepestDepth, expandedDepth);
+        return node;
+    }
+
+    private Node composeSequence(SequenceStartEvent startEvent, int depth) throws ParsingException {
+        boolean resolved = isNonSpecific(startEvent.getTag());
+        Tag tag = resolved ? resolver.resolve(NodeId.sequence, null, startEvent.getImplicit()) :
+                new Tag(startEvent.getTag());
+        List<Node> items = new ArrayList<>();
+        SequenceNode sequenceNode = new SequenceNode(tag, resolved, items, startEvent.getStartMark(), null,
+                                                     startEvent.getFlowStyle());
+        putAnchor(startEvent, sequenceNode);
+        Event itemEvent;
+        while (!(itemEvent = events.next()).is(Event.ID.SequenceEnd)) {
+            checkCollectionSize(items.size() + 1, itemEvent);
+            Node item = compose(itemEvent, depth + 1);
+            if (item == null) {
+                return null;
+            }
+            items.add(item);
+        }
+        sequenceNode.setEndMark(itemEvent.getEndMark());
+        return sequenceNode;
+    }
+
+    private Node composeMapping(MappingStartEvent startEvent, int depth) throws ParsingException {
+        boolean resolved = isNonSpecific(startEvent.getTag());
+        Tag tag = resolved ? resolver.resolve(NodeId.mapping, null, startEvent.getImplicit()) :
+                new Tag(startEvent.getTag());
+        List<NodeTuple> tuples = new ArrayList<>();
+        MappingNode mappingNode = new MappingNode(tag, resolved, tuples, startEvent.getStartMark(), null,
+                                                  startEvent.getFlowStyle());
+        putAnchor(startEvent, mappingNode);
+        Event keyEvent;
+        while (!(keyEvent = events.next()).is(Event.ID.MappingEnd)) {
+            checkCollectionSize(tuples.size() + 1, keyEvent);
+            Node key = compose(keyEvent, depth + 1);
+            Node value = (key == null) ? null : compose(events.next(), depth + 1);
+            if (value == null) {
+                return null;
+            }
+            if (key.getTag().equals(Tag.MERGE)) {
+                mappingNode.setMerged(true);
+            }
+            tuples.add(new NodeTuple(key, value));
+        }
+        mappingNode.setEndMark(keyEvent.getEndMark());
+        return mappingNode;
+    }
+
+    private void checkDepth(int depth, Event event) throws ParsingException {
+        if (depth > limits.getMaxDepth()) {
+            throw limitExceeded("nesting depth of " + limits.getMaxDepth(), "maxDepth", event.getStartMark());
+        }
+    }
+
+    private void putAnchor(NodeEvent event, Node node) {
+        if (event.getAnchor() != null) {
+            anchors.put(event.getAnchor(), node);
+        }
+    }
+
+    private ParsingException limitExceeded(String limit, String limitName, Mark mark) {
+        return new ParsingException("Configuration file '" + configurationFile + "' exceeds the maximum " + limit +
+                                    at(mark) + ". See '" + limitName + "' of 'yamlLimits' plugin parameter.");
+    }
+
+    private static String at(Mark mark) {
+        return (mark == null) ? "" : (" at line " + (mark.getLine() + 1) + ", column " + (mark.getColumn() + 1));
+    }
+
+    private static boolean isNonSpecific(String tag) {
+        return (tag == null) || tag.equals("!");
+    }
+
+    /**
+     * Size of an anchored node, which an alias of it expands to.
+     */
+    private static class Expansion {
+
+        private final long nodes;
+        private final int height;
+
+        Expansion(long nodes, int height) {
+            this.nodes = nodes;
+            this.height = height;
+        }
+    }
+}
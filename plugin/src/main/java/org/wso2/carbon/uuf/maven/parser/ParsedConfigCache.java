@@ -0,0 +1,368 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.bean.ThemeConfig;
+import org.wso2.carbon.uuf.maven.bean.mojo.Bundle;
+import org.wso2.carbon.uuf.maven.bean.mojo.BundleListConfig;
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.util.ConfigTree;
+
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/**
+ * A process-wide cache of parsed YAML configuration files, so that a configuration file shared by many modules of a
+ * reactor build is parsed only once per Maven JVM.
+ * <p>
+ * Parsed configurations are keyed by the SHA-256 hash of the file content and the {@link YamlLimits} used to parse
+ * it, hence the same file unpacked into different modules is parsed once. The hash of a file is remembered against its
+ * path, size and last modified time, so an unchanged file is not even read again. Both maps are LRU bounded and
+ * parsed configurations are softly referenced, so the cache never holds memory the JVM needs. Callers always receive a
+ * copy of the cached configuration, except for the {@link ComponentConfig#getConfig() config map} of a component which
+ * is frozen and shared.
+ *
+ * @since 1.0.0
+ */
+public class ParsedConfigCache {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int MAX_FILES = 1024;
+    private static final int MAX_CONFIGS = 512;
+    private static final Map<Class<?>, UnaryOperator<Object>> COPIERS = new HashMap<>();
+    private static final Map<String, FileStamp> FILE_STAMPS = createLruMap(MAX_FILES);
+    private static final Map<ConfigKey, SoftReference<Object>> CONFIGS = createLruMap(MAX_CONFIGS);
+
+    static {
+        COPIERS.put(ComponentConfig.class, config -> copy((ComponentConfig) config));
+        COPIERS.put(BundleListConfig.class, config -> copy((BundleListConfig) config));
+        COPIERS.put(ThemeConfig.class, config -> copy((ThemeConfig) config));
+    }
+
+    /**
+     * Parses the given YAML configuration file with the default {@link YamlLimits} and de-serialize the content into
+     * given bean type, reusing a previous parse of the same content when possible.
+     *
+     * @param configFilePath path to YAML file
+     * @param type           class of the bean to be used when de-serializing
+     * @param <T>            type of the bean class to be used when de-serializing
+     * @return a new populated bean instance that can be freely modified by the caller, except for the frozen config map
+     * of a {@link ComponentConfig}
+     * @throws ParsingException if cannot read or parse the content of the specified YAML file
+     */
+    public static <T> T parse(String configFilePath, Class<T> type) throws ParsingException {
+        return parse(configFilePath, type, new YamlLimits());
+    }
+
+    /**
+     * Parses the given YAML configuration file and de-serialize the content into given bean type, reusing a previous
+     * parse of the same content with the same limits when possible.
+     *
+     * @param configFilePath path to YAML file
+     * @param type           class of the bean to be used when de-serializing
+     * @param limits         resource limits to enforce while parsing
+     * @param <T>            type of the bean class to be used when de-serializing
+     * @return a new populated bean instance that can be freely modified by the caller, except for the frozen config map
+     * of a {@link ComponentConfig}
+     * @throws ParsingException if cannot read or parse the content of the specified YAML file, or if the file exceeds a
+     *                          limit
+     */
+    public static <T> T parse(String configFilePath, Class<T> type, YamlLimits limits) throws ParsingException {
+        UnaryOperator<Object> copier = COPIERS.get(type);
+        if (copier == null) {
+            return YamlFileParser.parse(configFilePath, type, limits); // Not a cacheable type.
+        }
+
+        Object cachedConfig = getOrParse(configFilePath, type.getName(), limits, (configurationFile, content) -> {
+            Object config = YamlFileParser.parseContent(configurationFile, content, type, limits);
+            if (config instanceof ComponentConfig) {
+                // Frozen configuration maps are shared among all the copies instead of being copied.
+                ComponentConfig componentConfig = (ComponentConfig) config;
+                componentConfig.setConfig(ConfigTree.freeze(componentConfig.getConfig()));
+            }
+            return config;
+        });
+        return type.cast(copier.apply(cachedConfig));
+    }
+
+    /**
+     * Parses the requested top level sections of the given YAML configuration file using {@link YamlSectionParser}
+     * with the default {@link YamlLimits}, reusing a previous parse of the same content when possible.
+     *
+     * @param configFilePath path to YAML file
+     * @param keys           top level keys of the sections to parse
+     * @return frozen map of parsed sections keyed by their top level keys
+     * @throws ParsingException if cannot read or parse the content of the specified YAML file
+     */
+    public static Map<String, Object> parseSections(String configFilePath, String... keys) throws ParsingException {
+        return parseSections(configFilePath, new YamlLimits(), keys);
+    }
+
+    /**
+     * Parses the requested top level sections of the given YAML configuration file using {@link YamlSectionParser},
+     * reusing a previous parse of the same content with the same limits when possible.
+     *
+     * @param configFilePath path to YAML file
+     * @param limits         resource limits to enforce while parsing
+     * @param keys           top level keys of the sections to parse
+     * @return frozen map of parsed sections keyed by their top level keys
+     * @throws ParsingException if cannot read or parse the content of the specified YAML file, or if the file exceeds a
+     *                          limit
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> parseSections(String configFilePath, YamlLimits limits, String... keys)
+            throws ParsingException {
+        String[] sortedKeys = keys.clone();
+        Arrays.sort(sortedKeys);
+        return (Map<String, Object>) getOrParse(
+                configFilePath, "sections" + Arrays.toString(sortedKeys), limits,
+                (configurationFile, content) -> ConfigTree.freeze(
+                        YamlSectionParser.parseContent(configurationFile, content, limits, sortedKeys)));
+    }
+
+    private static Object getOrParse(String configFilePath, String kind, YamlLimits limits,
+                                     ContentParser contentParser) throws ParsingException {
+        Path configurationFile = Paths.get(configFilePath).toAbsolutePath();
+        if (!Files.exists(configurationFile)) {
+            throw new ParsingException("Mandatory configuration file '" + configurationFile + "' does not exists.");
+        }
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(configurationFile, BasicFileAttributes.class);
+        } catch (IOException e) {
+            throw new ParsingException("Cannot read attributes of configuration file '" + configurationFile + "'.", e);
+        }
+        long size = attributes.size();
+        LimitedComposer.checkFileSize(configurationFile, size, limits);
+        long lastModifiedTime = attributes.lastModifiedTime().toMillis();
+
+        String filePathKey = configurationFile.toString();
+        FileStamp fileStamp;
+        synchronized (FILE_STAMPS) {
+            fileStamp = FILE_STAMPS.get(filePathKey);
+        }
+        if ((fileStamp != null) && fileStamp.matches(size, lastModifiedTime)) {
+            Object cachedConfig = getConfig(new ConfigKey(kind, limits, fileStamp.hash));
+            if (cachedConfig != null) {
+                return cachedConfig;
+            }
+        }
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(configurationFile);
+        } catch (IOException e) {
+            throw new ParsingException("Cannot read the content of configuration file '" + configurationFile + "'.",
+                                       e);
+        }
+        String hash = hash(content);
+        synchronized (FILE_STAMPS) {
+            FILE_STAMPS.put(filePathKey, new FileStamp(size, lastModifiedTime, hash));
+        }
+        ConfigKey configKey = new ConfigKey(kind, limits, hash);
+        Object cachedConfig = getConfig(configKey);
+        if (cachedConfig == null) {
+            cachedConfig = contentParser.parse(configurationFile, content);
+            synchronized (CONFIGS) {
+                CONFIGS.put(configKey, new SoftReference<>(cachedConfig));
+            }
+        }
+        return cachedConfig;
+    }
+
+    /**
+     * Removes all the entries in this cache.
+     */
+    public static void clear() {
+        synchronized (FILE_STAMPS) {
+            FILE_STAMPS.clear();
+        }
+        synchronized (CONFIGS) {
+            CONFIGS.clear();
+        }
+    }
+
+    private static Object getConfig(ConfigKey configKey) {
+        synchronized (CONFIGS) {
+            SoftReference<Object> reference = CONFIGS.get(configKey);
+            if (reference == null) {
+                return null;
+            }
+            Object config = reference.get();
+            if (config == null) {
+                CONFIGS.remove(configKey); // Collected by the GC.
+            }
+            return config;
+        }
+    }
+
+    private static String hash(byte[] content) {
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException("Cannot find '" + HASH_ALGORITHM + "' message digest algorithm.", e);
+        }
+        StringBuilder hash = new StringBuilder();
+        for (byte b : messageDigest.digest(content)) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
+    }
+
+    private static <K, V> Map<K, V> createLruMap(int maxEntries) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private static ComponentConfig copy(ComponentConfig componentConfig) {
+        ComponentConfig copy = new ComponentConfig();
+        if (componentConfig.getApis() != null) {
+            List<ComponentConfig.API> apis = new ArrayList<>();
+            for (ComponentConfig.API api : componentConfig.getApis()) {
+                ComponentConfig.API apiCopy = new ComponentConfig.API();
+                setIfNotNull(api.getClassName(), apiCopy::setClassName);
+                setIfNotNull(api.getUri(), apiCopy::setUri);
+                apis.add(apiCopy);
+            }
+            copy.setApis(apis);
+        }
+        if (componentConfig.getBindings() != null) {
+            List<ComponentConfig.Binding> bindings = new ArrayList<>();
+            for (ComponentConfig.Binding binding : componentConfig.getBindings()) {
+                ComponentConfig.Binding bindingCopy = new ComponentConfig.Binding();
+                setIfNotNull(binding.getZoneName(), bindingCopy::setZoneName);
+                setIfNotNull(binding.getMode(), bindingCopy::setMode);
+                setIfNotNull(copyList(binding.getFragments()), bindingCopy::setFragments);
+                bindings.add(bindingCopy);
+            }
+            copy.setBindings(bindings);
+        }
+        copy.setConfig(componentConfig.getConfig());
+        return copy;
+    }
+
+    private static BundleListConfig copy(BundleListConfig bundleListConfig) {
+        BundleListConfig copy = new BundleListConfig();
+        if (bundleListConfig.getBundles() != null) {
+            List<Bundle> bundles = new ArrayList<>();
+            for (Bundle bundle : bundleListConfig.getBundles()) {
+                Bundle bundleCopy = new Bundle();
+                setIfNotNull(bundle.getSymbolicName(), bundleCopy::setSymbolicName);
+                setIfNotNull(bundle.getVersion(), bundleCopy::setVersion);
+                bundles.add(bundleCopy);
+            }
+            copy.setBundles(bundles);
+        }
+        return copy;
+    }
+
+    private static ThemeConfig copy(ThemeConfig themeConfig) {
+        ThemeConfig copy = new ThemeConfig();
+        copy.setCss(copyList(themeConfig.getCss()));
+        copy.setHeadJs(copyList(themeConfig.getHeadJs()));
+        copy.setJs(copyList(themeConfig.getJs()));
+        return copy;
+    }
+
+    private static <T> void setIfNotNull(T value, Consumer<T> setter) {
+        if (value != null) {
+            setter.accept(value);
+        }
+    }
+
+    private static <E> List<E> copyList(List<E> list) {
+        return (list == null) ? null : new ArrayList<>(list);
+    }
+
+    private static class FileStamp {
+
+        private final long size;
+        private final long lastModifiedTime;
+        private final String hash;
+
+        FileStamp(long size, long lastModifiedTime, String hash) {
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+            this.hash = hash;
+        }
+
+        boolean matches(long size, long lastModifiedTime) {
+            return (this.size == size) && (this.lastModifiedTime == lastModifiedTime);
+        }
+    }
+
+    /**
+     * Parses the content of a configuration file.
+     */
+    private interface ContentParser {
+
+        Object parse(Path configurationFile, byte[] content) throws ParsingException;
+    }
+
+    private static class ConfigKey {
+
+        private final String kind;
+        private final YamlLimits limits;
+        private final String hash;
+
+        ConfigKey(String kind, YamlLimits limits, String hash) {
+            this.kind = kind;
+            this.limits = limits;
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if ((obj != null) && (obj instanceof ConfigKey)) {
+                ConfigKey other = (ConfigKey) obj;
+                return Objects.equals(kind, other.kind) && Objects.equals(limits, other.limits) &&
+                        Objects.equals(hash, other.hash);
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(kind, limits, hash);
+        }
+    }
+}
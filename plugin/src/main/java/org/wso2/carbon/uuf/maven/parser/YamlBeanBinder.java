@@ -0,0 +1,466 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.wso2.carbon.uuf.maven.bean.AppConfig;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.bean.ThemeConfig;
+import org.wso2.carbon.uuf.maven.bean.mojo.Bundle;
+import org.wso2.carbon.uuf.maven.bean.mojo.BundleListConfig;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.Mark;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Binds composed YAML nodes to the configuration beans.
+ * <p>
+ * Each bean has a dedicated binder that sets its properties through the bean's own (validating) setters, hence
+ * binding does not use reflection or bean introspection. Only the standard YAML tags are accepted and unknown
+ * properties are rejected, in the same way as when loading through a bean typed {@link
+ * org.yaml.snakeyaml.constructor.Constructor}.
+ *
+ * @since 1.0.0
+ */
+public class YamlBeanBinder {
+
+    private static final Map<Class<?>, NodeBinder<?>> BINDERS = new HashMap<>();
+    private static final ThreadLocal<ValueConstructor> VALUE_CONSTRUCTOR =
+            ThreadLocal.withInitial(ValueConstructor::new);
+
+    static {
+        BINDERS.put(AppConfig.class, YamlBeanBinder::toAppConfig);
+        BINDERS.put(ComponentConfig.class, YamlBeanBinder::toComponentConfig);
+        BINDERS.put(ThemeConfig.class, YamlBeanBinder::toThemeConfig);
+        BINDERS.put(BundleListConfig.class, YamlBeanBinder::toBundleListConfig);
+    }
+
+    /**
+     * Checks whether there is a binder for the specified bean type.
+     *
+     * @param type class of the bean
+     * @return {@code true} if nodes can be bound to the specified bean type, otherwise {@code false}
+     */
+    static boolean canBind(Class<?> type) {
+        return BINDERS.containsKey(type);
+    }
+
+    /**
+     * Binds the specified node to a new bean of the specified type.
+     *
+     * @param node root node of the YAML document
+     * @param type class of the bean
+     * @param <T>  type of the bean
+     * @return populated bean, or {@code null} if the document is empty
+     * @throws ParsingException         if the node does not match the structure of the bean
+     * @throws IllegalArgumentException if a value is rejected by a setter of the bean
+     * @see #canBind(Class)
+     */
+    static <T> T bind(Node node, Class<T> type) throws ParsingException {
+        NodeBinder<?> binder = BINDERS.get(type);
+        if (binder == null) {
+            throw new IllegalArgumentException("There is no YAML binder for '" + type.getName() + "' class.");
+        }
+        return type.cast(binder.bind(node));
+    }
+
+    /**
+     * Constructs the specified node as an untyped value (a map, a list or a scalar), accepting only the standard YAML
+     * tags.
+     *
+     * @param node node to construct
+     * @return constructed value
+     */
+    static Object construct(Node node) {
+        return VALUE_CONSTRUCTOR.get().construct(node);
+    }
+
+    private static AppConfig toAppConfig(Node node) throws ParsingException {
+        return toBean(node, AppConfig::new, (appConfig, name, value) -> {
+            switch (name) {
+                case "contextPath":
+                    appConfig.setContextPath(toString(value));
+                    break;
+                case "theme":
+                    appConfig.setTheme(toString(value));
+                    break;
+                case "loginPageUri":
+                    appConfig.setLoginPageUri(toString(value));
+                    break;
+                case "authorizer":
+                    appConfig.setAuthorizer(toString(value));
+                    break;
+                case "sessionManagement":
+                    appConfig.setSessionManagement(toSessionConfig(value));
+                    break;
+                case "errorPages":
+                    appConfig.setErrorPages(toStringMap(value));
+                    break;
+                case "menus":
+                    appConfig.setMenus(toList(value, YamlBeanBinder::toMenu));
+                    break;
+                case "security":
+                    appConfig.setSecurity(toSecurityConfig(value));
+                    break;
+                default:
+                    throw unknownProperty(appConfig, name, value);
+            }
+        });
+    }
+
+    private static AppConfig.SessionConfig toSessionConfig(Node node) throws ParsingException {
+        return toBean(node, AppConfig.SessionConfig::new, (sessionConfig, name, value) -> {
+            switch (name) {
+                case "factoryClassName":
+                    sessionConfig.setFactoryClassName(toString(value));
+                    break;
+                case "timeout":
+                    sessionConfig.setTimeout(toLong(value));
+                    break;
+                default:
+                    throw unknownProperty(sessionConfig, name, value);
+            }
+        });
+    }
+
+    private static AppConfig.Menu toMenu(Node node) throws ParsingException {
+        return toBean(node, AppConfig.Menu::new, (menu, name, value) -> {
+            switch (name) {
+                case "name":
+                    menu.setName(toString(value));
+                    break;
+                case "items":
+                    menu.setItems(toList(value, YamlBeanBinder::toMenuItem));
+                    break;
+                default:
+                    throw unknownProperty(menu, name, value);
+            }
+        });
+    }
+
+    private static AppConfig.MenuItem toMenuItem(Node node) throws ParsingException {
+        return toBean(node, AppConfig.MenuItem::new, (menuItem, name, value) -> {
+            switch (name) {
+                case "text":
+                    menuItem.setText(toString(value));
+                    break;
+                case "link":
+                    menuItem.setLink(toString(value));
+                    break;
+                case "icon":
+                    menuItem.setIcon(toString(value));
+                    break;
+                case "submenus":
+                    menuItem.setSubmenus(toList(value, YamlBeanBinder::toMenuItem));
+                    break;
+                default:
+                    throw unknownProperty(menuItem, name, value);
+            }
+        });
+    }
+
+    private static AppConfig.SecurityConfig toSecurityConfig(Node node) throws ParsingException {
+        return toBean(node, AppConfig.SecurityConfig::new, (securityConfig, name, value) -> {
+            switch (name) {
+                case "csrfIgnoreUris":
+                    securityConfig.setCsrfIgnoreUris(toList(value, YamlBeanBinder::toString));
+                    break;
+                case "xssIgnoreUris":
+                    securityConfig.setXssIgnoreUris(toList(value, YamlBeanBinder::toString));
+                    break;
+                case "responseHeaders":
+                    securityConfig.setResponseHeaders(toResponseHeaders(value));
+                    break;
+                default:
+                    throw unknownProperty(securityConfig, name, value);
+            }
+        });
+    }
+
+    private static AppConfig.ResponseHeaders toResponseHeaders(Node node) throws ParsingException {
+        return toBean(node, AppConfig.ResponseHeaders::new, (responseHeaders, name, value) -> {
+            switch (name) {
+                case "staticResources":
+                    responseHeaders.setStaticResources(toStringMap(value));
+                    break;
+                case "pages":
+                    responseHeaders.setPages(toStringMap(value));
+                    break;
+                default:
+                    throw unknownProperty(responseHeaders, name, value);
+            }
+        });
+    }
+
+    private static ComponentConfig toComponentConfig(Node node) throws ParsingException {
+        return toBean(node, ComponentConfig::new, (componentConfig, name, value) -> {
+            switch (name) {
+                case "apis":
+                    componentConfig.setApis(toList(value, YamlBeanBinder::toApi));
+                    break;
+                case "bindings":
+                    componentConfig.setBindings(toList(value, YamlBeanBinder::toBinding));
+                    break;
+                case "config":
+                    componentConfig.setConfig(toObjectMap(value));
+                    break;
+                default:
+                    throw unknownProperty(componentConfig, name, value);
+            }
+        });
+    }
+
+    private static ComponentConfig.API toApi(Node node) throws ParsingException {
+        return toBean(node, ComponentConfig.API::new, (api, name, value) -> {
+            switch (name) {
+                case "className":
+                    api.setClassName(toString(value));
+                    break;
+                case "uri":
+                    api.setUri(toString(value));
+                    break;
+                default:
+                    throw unknownProperty(api, name, value);
+            }
+        });
+    }
+
+    private static ComponentConfig.Binding toBinding(Node node) throws ParsingException {
+        return toBean(node, ComponentConfig.Binding::new, (binding, name, value) -> {
+            switch (name) {
+                case "zoneName":
+                    binding.setZoneName(toString(value));
+                    break;
+                case "mode":
+                    binding.setMode(toString(value));
+                    break;
+                case "fragments":
+                    binding.setFragments(toList(value, YamlBeanBinder::toString));
+                    break;
+                default:
+                    throw unknownProperty(binding, name, value);
+            }
+        }, "zoneName", "fragments");
+    }
+
+    private static ThemeConfig toThemeConfig(Node node) throws ParsingException {
+        return toBean(node, ThemeConfig::new, (themeConfig, name, value) -> {
+            switch (name) {
+                case "css":
+                    themeConfig.setCss(toList(value, YamlBeanBinder::toString));
+                    break;
+                case "headJs":
+                    themeConfig.setHeadJs(toList(value, YamlBeanBinder::toString));
+                    break;
+                case "js":
+                    themeConfig.setJs(toList(value, YamlBeanBinder::toString));
+                    break;
+                default:
+                    throw unknownProperty(themeConfig, name, value);
+            }
+        });
+    }
+
+    private static BundleListConfig toBundleListConfig(Node node) throws ParsingException {
+        return toBean(node, BundleListConfig::new, (bundleListConfig, name, value) -> {
+            if (name.equals("bundles")) {
+                bundleListConfig.setBundles(toList(value, YamlBeanBinder::toBundle));
+            } else {
+                throw unknownProperty(bundleListConfig, name, value);
+            }
+        });
+    }
+
+    private static Bundle toBundle(Node node) throws ParsingException {
+        return toBean(node, Bundle::new, (bundle, name, value) -> {
+            switch (name) {
+                case "symbolicName":
+                    bundle.setSymbolicName(toString(value));
+                    break;
+                case "version":
+                    bundle.setVersion(toString(value));
+                    break;
+                default:
+                    throw unknownProperty(bundle, name, value);
+            }
+        });
+    }
+
+    private static <T> T toBean(Node node, Supplier<T> beanFactory, PropertySetter<T> propertySetter,
+                                String... requiredProperties) throws ParsingException {
+        if (isNull(node)) {
+            return null;
+        }
+        T bean = beanFactory.get();
+        Set<String> names = new HashSet<>();
+        for (NodeTuple tuple : toTuples(node, bean.getClass().getSimpleName())) {
+            Node keyNode = tuple.getKeyNode();
+            if (!(keyNode instanceof ScalarNode)) {
+                throw new ParsingException("Property names of '" + bean.getClass().getSimpleName() +
+                                           "' should be scalars" + at(keyNode) + ".");
+            }
+            names.add(((ScalarNode) keyNode).getValue());
+            propertySetter.set(bean, ((ScalarNode) keyNode).getValue(), tuple.getValueNode());
+        }
+        // Setters reject null values, but are not called at all for absent properties.
+        for (String requiredProperty : requiredProperties) {
+            if (!names.contains(requiredProperty)) {
+                throw new ParsingException("Property '" + requiredProperty + "' of '" +
+                                           bean.getClass().getSimpleName() + "' is missing" + at(node) + ".");
+            }
+        }
+        return bean;
+    }
+
+    private static <T> List<T> toList(Node node, NodeBinder<T> itemBinder) throws ParsingException {
+        if (isNull(node)) {
+            return null;
+        }
+        if (!(node instanceof SequenceNode)) {
+            throw new ParsingException("Expected a list" + at(node) + ".");
+        }
+        List<Node> itemNodes = ((SequenceNode) node).getValue();
+        List<T> items = new ArrayList<>(itemNodes.size());
+        for (Node itemNode : itemNodes) {
+            items.add(itemBinder.bind(itemNode));
+        }
+        return items;
+    }
+
+    private static Map<String, String> toStringMap(Node node) throws ParsingException {
+        if (isNull(node)) {
+            return null;
+        }
+        Map<String, String> map = new LinkedHashMap<>();
+        for (NodeTuple tuple : toTuples(node, "Map")) {
+            map.put(toString(tuple.getKeyNode()), toString(tuple.getValueNode()));
+        }
+        return map;
+    }
+
+    private static Map<String, Object> toObjectMap(Node node) throws ParsingException {
+        if (isNull(node)) {
+            return null;
+        }
+        ValueConstructor valueConstructor = VALUE_CONSTRUCTOR.get();
+        Map<String, Object> map = new LinkedHashMap<>();
+        for (NodeTuple tuple : toTuples(node, "Map")) {
+            map.put(toString(tuple.getKeyNode()), valueConstructor.construct(tuple.getValueNode()));
+        }
+        return map;
+    }
+
+    private static List<NodeTuple> toTuples(Node node, String typeName) throws ParsingException {
+        if (!(node instanceof MappingNode)) {
+            throw new ParsingException("Expected a '" + typeName + "'" + at(node) + ".");
+        }
+        MappingNode mappingNode = (MappingNode) node;
+        VALUE_CONSTRUCTOR.get().flatten(mappingNode); // resolve merge keys ('<<')
+        return mappingNode.getValue();
+    }
+
+    private static String toString(Node node) throws ParsingException {
+        if (isNull(node)) {
+            return null;
+        }
+        if (!(node instanceof ScalarNode)) {
+            throw new ParsingException("Expected a string" + at(node) + ".");
+        }
+        // Scalars are taken as written, e.g. '404' stays a string even though YAML would resolve it to an integer.
+        return ((ScalarNode) node).getValue();
+    }
+
+    private static long toLong(Node node) throws ParsingException {
+        if (!(node instanceof ScalarNode) || isNull(node)) {
+            throw new ParsingException("Expected an integer" + at(node) + ".");
+        }
+        if (node.getTag().equals(Tag.INT)) {
+            // Let SnakeYAML handle all YAML integer notations (e.g. '0x1F', '1_000').
+            return ((Number) VALUE_CONSTRUCTOR.get().construct(node)).longValue();
+        }
+        try {
+            return Long.parseLong(((ScalarNode) node).getValue());
+        } catch (NumberFormatException e) {
+            throw new ParsingException("Expected an integer" + at(node) + ".", e);
+        }
+    }
+
+    private static boolean isNull(Node node) {
+        return (node instanceof ScalarNode) && node.getTag().equals(Tag.NULL);
+    }
+
+    private static String at(Node node) {
+        Mark mark = node.getStartMark();
+        return (mark == null) ? "" : (" at line " + (mark.getLine() + 1) + ", column " + (mark.getColumn() + 1));
+    }
+
+    private static ParsingException unknownProperty(Object bean, String name, Node value) {
+        return new ParsingException("Unknown property '" + name + "' in '" + bean.getClass().getSimpleName() + "'" +
+                                    at(value) + ".");
+    }
+
+    /**
+     * Binds a node to a value of a bean property.
+     *
+     * @param <T> type of the bound value
+     */
+    @FunctionalInterface
+    private interface NodeBinder<T> {
+
+        T bind(Node node) throws ParsingException;
+    }
+
+    /**
+     * Sets a property of a bean from its node.
+     *
+     * @param <T> type of the bean
+     */
+    @FunctionalInterface
+    private interface PropertySetter<T> {
+
+        void set(T bean, String name, Node value) throws ParsingException;
+    }
+
+    /**
+     * Constructs untyped values (maps, lists and scalars) from nodes, accepting only the standard YAML tags.
+     */
+    private static class ValueConstructor extends SafeConstructor {
+
+        Object construct(Node node) {
+            return constructDocument(node);
+        }
+
+        void flatten(MappingNode node) {
+            flattenMapping(node);
+        }
+    }
+}
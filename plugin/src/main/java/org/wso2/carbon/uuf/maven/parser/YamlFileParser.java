@@ -18,24 +18,33 @@
 
 package org.wso2.carbon.uuf.maven.parser;
 
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
 import org.wso2.carbon.uuf.maven.exception.ParsingException;
-import org.yaml.snakeyaml.Yaml;
+import org.wso2.carbon.uuf.maven.util.ConfigTree;
+import org.wso2.carbon.uuf.maven.util.YamlEngines;
+import org.yaml.snakeyaml.nodes.Node;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
 
 /**
  * Parser for YAML configuration files in an UUF apps, themes, and components.
+ * <p>
+ * Files are parsed within {@link YamlLimits} and bound only to the known configuration bean types, accepting only the
+ * standard YAML tags. Hence a configuration file shipped in a third-party component cannot instantiate arbitrary
+ * classes or exhaust the CPU and heap of the build.
  *
  * @since 1.0.0
  */
 public class YamlFileParser {
 
     /**
-     * Parses the given YAML configuration file and de-serialize the content into given bean type.
+     * Parses the given YAML configuration file with the default {@link YamlLimits} and de-serialize the content into
+     * given bean type.
      *
      * @param configFilePath path to YAML file
      * @param type           class of the bean to be used when de-serializing
@@ -44,18 +53,122 @@ public class YamlFileParser {
      * @throws ParsingException if cannot read or parse the content of the specified YAML file
      */
     public static <T> T parse(String configFilePath, Class<T> type) throws ParsingException {
+        return parse(configFilePath, type, new YamlLimits());
+    }
+
+    /**
+     * Parses the given YAML configuration file and de-serialize the content into given bean type.
+     *
+     * @param configFilePath path to YAML file
+     * @param type           class of the bean to be used when de-serializing
+     * @param limits         resource limits to enforce while parsing
+     * @param <T>            type of the bean class to be used when de-serializing
+     * @return returns the populated bean instance
+     * @throws ParsingException if cannot read or parse the content of the specified YAML file, if the file exceeds a
+     *                          limit or if {@code type} is not a configuration bean type
+     */
+    public static <T> T parse(String configFilePath, Class<T> type, YamlLimits limits) throws ParsingException {
         Path configurationFile = Paths.get(configFilePath);
+        return parseContent(configurationFile, read(configurationFile, limits), type, limits);
+    }
+
+    private static byte[] read(Path configurationFile, YamlLimits limits) throws ParsingException {
         if (!Files.exists(configurationFile)) {
             throw new ParsingException("Mandatory configuration file '" + configurationFile + "' does not exists.");
         }
-
-        T loadedBean;
         try {
-            String content = new String(Files.readAllBytes(configurationFile), StandardCharsets.UTF_8);
-            loadedBean = parseString(content, type);
+            // Check the size before reading, so that an oversized file is never loaded into memory.
+            LimitedComposer.checkFileSize(configurationFile, Files.size(configurationFile), limits);
+            return Files.readAllBytes(configurationFile);
         } catch (IOException e) {
             throw new ParsingException("Cannot read the content of configuration file '" + configurationFile + "'.",
                                        e);
+        }
+    }
+
+    /**
+     * Parses the given YAML configuration file, merges the given overlay YAML file over it and de-serialize the merged
+     * content into given bean type. Maps are merged with the same logic used for merging configurations (see {@link
+     * ConfigTree#merge(Map, Map)}), hence a top level key with a {@code null} value in the overlay removes that key.
+     *
+     * @param configFilePath  path to YAML file
+     * @param overlayFilePath path to the overlay YAML file
+     * @param type            class of the bean to be used when de-serializing
+     * @param limits          resource limits to enforce while parsing each file
+     * @param <T>             type of the bean class to be used when de-serializing
+     * @return returns the populated bean instance
+     * @throws ParsingException if cannot read or parse the content of a specified YAML file, if a file exceeds a limit
+     *                          or if {@code type} is not a configuration bean type
+     */
+    public static <T> T parse(String configFilePath, String overlayFilePath, Class<T> type, YamlLimits limits)
+            throws ParsingException {
+        if (!YamlBeanBinder.canBind(type)) {
+            throw new ParsingException("Cannot parse the configuration file '" + configFilePath + "' into '" +
+                                       type.getName() + "' as it is not a configuration bean type.");
+        }
+        Map<String, Object> merged = ConfigTree.merge(ConfigTree.freeze(parseMap(configFilePath, limits)),
+                                                      parseMap(overlayFilePath, limits));
+        try {
+            return YamlBeanBinder.bind(YamlEngines.dumper().represent(merged), type);
+        } catch (Exception e) {
+            throw new ParsingException("Cannot parse the configuration file '" + configFilePath +
+                                       "' merged with the overlay file '" + overlayFilePath + "'.", e);
+        }
+    }
+
+    /**
+     * Parses the given YAML configuration file into a map without binding it to a bean type.
+     *
+     * @param configFilePath path to YAML file
+     * @param limits         resource limits to enforce while parsing
+     * @return top level map of the YAML file
+     * @throws ParsingException if cannot read or parse the content of the specified YAML file, if the file exceeds a
+     *                          limit or if its top level is not a map with string keys
+     */
+    public static Map<?, ?> parseMap(String configFilePath, YamlLimits limits) throws ParsingException {
+        Path configurationFile = Paths.get(configFilePath);
+        byte[] content = read(configurationFile, limits);
+        Node document = LimitedComposer.composeDocument(configurationFile, content, limits);
+        if (document == null) {
+            // Either configuration file is empty or has comments only.
+            throw new ParsingException(
+                    "Cannot parse the configuration file '" + configurationFile + "' as it is empty.");
+        }
+        Object map;
+        try {
+            map = YamlBeanBinder.construct(document);
+        } catch (Exception e) {
+            throw new ParsingException("Cannot parse the configuration file '" + configurationFile + "'.", e);
+        }
+        if (!(map instanceof Map) || !((Map<?, ?>) map).keySet().stream().allMatch(key -> key instanceof String)) {
+            throw new ParsingException("Top level of configuration file '" + configurationFile +
+                                       "' should be a Map with string keys.");
+        }
+        return (Map<?, ?>) map;
+    }
+
+    /**
+     * De-serialize the specified content of the given YAML configuration file into given bean type.
+     *
+     * @param configurationFile YAML file that the content was read from
+     * @param content           content of the YAML file
+     * @param type              class of the bean to be used when de-serializing
+     * @param limits            resource limits to enforce while parsing
+     * @param <T>               type of the bean class to be used when de-serializing
+     * @return returns the populated bean instance
+     * @throws ParsingException if cannot parse the content, if the content exceeds a limit or if {@code type} is not a
+     *                          configuration bean type
+     */
+    static <T> T parseContent(Path configurationFile, byte[] content, Class<T> type, YamlLimits limits)
+            throws ParsingException {
+        if (!YamlBeanBinder.canBind(type)) {
+            throw new ParsingException("Cannot parse the configuration file '" + configurationFile + "' into '" +
+                                       type.getName() + "' as it is not a configuration bean type.");
+        }
+        Node document = LimitedComposer.composeDocument(configurationFile, content, limits);
+        T loadedBean;
+        try {
+            loadedBean = (document == null) ? null : YamlBeanBinder.bind(document, type);
         } catch (Exception e) {
             throw new ParsingException("Cannot parse the configuration file '" + configurationFile + "'.",
                                        e);
@@ -68,7 +181,8 @@ public class YamlFileParser {
         return loadedBean;
     }
 
-    static <T> T parseString(String configFileContent, Class<T> type) {
-        return new Yaml().loadAs(configFileContent, type);
+    static <T> T parseString(String configFileContent, Class<T> type) throws ParsingException {
+        return parseContent(Paths.get("string"), configFileContent.getBytes(StandardCharsets.UTF_8), type,
+                            new YamlLimits());
     }
 }
@@ -0,0 +1,191 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.events.Event;
+import org.yaml.snakeyaml.events.ScalarEvent;
+import org.yaml.snakeyaml.nodes.Node;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Parser that reads only the requested top level sections of a YAML configuration file.
+ * <p>
+ * The parser walks the YAML events of the document and composes nodes only for the values of the requested top level
+ * keys. Values of the other keys are skipped event by event without building any node or object.
+ *
+ * @since 1.0.0
+ */
+public class YamlSectionParser {
+
+    private static final String MERGE_KEY = "<<";
+
+    /**
+     * Parses the requested top level sections of the given YAML configuration file with the default {@link
+     * YamlLimits}.
+     *
+     * @param configFilePath path to YAML file
+     * @param keys           top level keys of the sections to parse
+     * @return parsed sections keyed by their top level keys; requested keys that are not in the file are absent
+     * @throws ParsingException if cannot read or parse the content of the specified YAML file
+     */
+    public static Map<String, Object> parse(String configFilePath, String... keys) throws ParsingException {
+        return parse(configFilePath, new YamlLimits(), keys);
+    }
+
+    /**
+     * Parses the requested top level sections of the given YAML configuration file.
+     *
+     * @param configFilePath path to YAML file
+     * @param limits         resource limits to enforce while parsing
+     * @param keys           top level keys of the sections to parse
+     * @return parsed sections keyed by their top level keys; requested keys that are not in the file are absent
+     * @throws ParsingException if cannot read or parse the content of the specified YAML file, or if the file exceeds a
+     *                          limit
+     */
+    public static Map<String, Object> parse(String configFilePath, YamlLimits limits, String... keys)
+            throws ParsingException {
+        Path configurationFile = Paths.get(configFilePath);
+        if (!Files.exists(configurationFile)) {
+            throw new ParsingException("Mandatory configuration file '" + configurationFile + "' does not exists.");
+        }
+        byte[] content;
+        try {
+            LimitedComposer.checkFileSize(configurationFile, Files.size(configurationFile), limits);
+            content = Files.readAllBytes(configurationFile);
+        } catch (IOException e) {
+            throw new ParsingException("Cannot read the content of configuration file '" + configurationFile + "'.",
+                                       e);
+        }
+        return parseContent(configurationFile, content, limits, keys);
+    }
+
+    /**
+     * Parses the requested top level sections of the specified content of the given YAML configuration file.
+     *
+     * @param configurationFile YAML file that the content was read from
+     * @param content           content of the YAML file
+     * @param limits            resource limits to enforce while parsing
+     * @param keys              top level keys of the sections to parse
+     * @return parsed sections keyed by their top level keys; requested keys that are not in the file are absent
+     * @throws ParsingException if cannot parse the content or if the content exceeds a limit
+     */
+    static Map<String, Object> parseContent(Path configurationFile, byte[] content, YamlLimits limits,
+                                            String... keys) throws ParsingException {
+        LimitedComposer.checkFileSize(configurationFile, content.length, limits);
+        Map<String, Object> sections;
+        try {
+            sections = parseSections(configurationFile, content, limits, new HashSet<>(Arrays.asList(keys)));
+        } catch (YAMLException e) {
+            throw new ParsingException("Cannot parse the configuration file '" + configurationFile + "'.", e);
+        }
+        if (sections == null) {
+            // Either configuration file is empty or has comments only.
+            throw new ParsingException(
+                    "Cannot parse the configuration file '" + configurationFile + "' as it is empty.");
+        }
+        return sections;
+    }
+
+    private static Map<String, Object> parseSections(Path configurationFile, byte[] content, YamlLimits limits,
+                                                     Set<String> keys) throws ParsingException {
+        Iterator<Event> events = LimitedComposer.events(content);
+        events.next(); // stream start
+        Event event = events.next();
+        if (event.is(Event.ID.StreamEnd)) {
+            return null; // no document
+        }
+        event = events.next(); // first event after the document start
+        if ((event instanceof ScalarEvent) && ((ScalarEvent) event).getValue().isEmpty()) {
+            return null; // empty document
+        }
+        if (!event.is(Event.ID.MappingStart)) {
+            throw new ParsingException("Top level of configuration file '" + configurationFile + "' should be a Map.");
+        }
+
+        LimitedComposer composer = new LimitedComposer(configurationFile, events, limits, true);
+        SectionConstructor constructor = new SectionConstructor();
+        Map<String, Object> sections = new LinkedHashMap<>();
+        int entries = 0;
+        while (true) {
+            event = events.next();
+            if (event.is(Event.ID.MappingEnd)) {
+                return sections;
+            }
+            composer.checkCollectionSize(++entries, event);
+            if ((event instanceof ScalarEvent) && MERGE_KEY.equals(((ScalarEvent) event).getValue())) {
+                // A top level merge key may bring in any of the requested sections.
+                return parseSectionsFully(configurationFile, content, limits, keys);
+            }
+            if ((event instanceof ScalarEvent) && keys.contains(((ScalarEvent) event).getValue())) {
+                String key = ((ScalarEvent) event).getValue();
+                Node node = composer.compose(events.next(), 2);
+                if (node == null) {
+                    // Requested section refers to an anchor outside of the requested sections, hence cannot be
+                    // parsed in isolation.
+                    return parseSectionsFully(configurationFile, content, limits, keys);
+                }
+                sections.put(key, constructor.construct(node));
+            } else {
+                composer.skip(event, 2); // key
+                composer.skip(events.next(), 2); // value
+            }
+        }
+    }
+
+    private static Map<String, Object> parseSectionsFully(Path configurationFile, byte[] content, YamlLimits limits,
+                                                          Set<String> keys) throws ParsingException {
+        Node documentNode = LimitedComposer.composeDocument(configurationFile, content, limits);
+        Object document = (documentNode == null) ? null : new SectionConstructor().construct(documentNode);
+        if (!(document instanceof Map)) {
+            throw new ParsingException("Top level of configuration file '" + configurationFile + "' should be a Map.");
+        }
+        Map<String, Object> sections = new LinkedHashMap<>();
+        ((Map<?, ?>) document).forEach((key, value) -> {
+            if (keys.contains(key)) {
+                sections.put((String) key, value);
+            }
+        });
+        return sections;
+    }
+
+    /**
+     * Constructs plain Java objects (maps, lists and scalars) from composed nodes, accepting only the standard YAML
+     * tags.
+     */
+    private static class SectionConstructor extends SafeConstructor {
+
+        Object construct(Node node) {
+            return constructDocument(node);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.serializer;
+
+import org.wso2.carbon.uuf.maven.bean.AppIndex;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.exception.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Binary serializer which can serialize an app index into a single file, which can be read in one sequential pass.
+ * <p>
+ * The format is a 4-byte magic number, a 2-byte format version, the dependency tree in the format of {@link
+ * DependencyTreeBinarySerializer} with a 4-byte length prefix, a 4-byte component count followed by the components,
+ * and then the contents of the indexed files with a 4-byte length prefix. Each component is written as its fully
+ * qualified name, directory name and context path, its bindings (zone name, mode and fragment names), its APIs (class
+ * name and URI), its OSGi imports (preceded by a boolean which tells whether there is one) and its indexed files (kind
+ * ordinal as a byte, relative path, 4-byte offset and 4-byte length), where each list has a 4-byte count prefix and
+ * strings are in UTF-8 with a 4-byte length prefix, as OSGi imports can be longer than the 64 KB allowed by {@link
+ * DataOutputStream#writeUTF(String)}. Use {@link org.wso2.carbon.uuf.maven.parser.AppIndexParser} to read it back.
+ *
+ * @since 1.0.0
+ */
+public class AppIndexSerializer {
+
+    /**
+     * Magic number at the beginning of an app index ("UUFI").
+     */
+    public static final int MAGIC_NUMBER = 0x55554649;
+    /**
+     * Version of the app index format.
+     */
+    public static final short FORMAT_VERSION = 2;
+
+    /**
+     * Serialize the specified app index to the binary format.
+     *
+     * @param appIndex app index to be serialize
+     * @return binary representation of the app index
+     * @throws SerializationException if an error occurred during serialization
+     */
+    public static byte[] serialize(AppIndex appIndex) throws SerializationException {
+        byte[] dependencyTree = DependencyTreeBinarySerializer.serialize(appIndex.getDependencyTree());
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(
+                dependencyTree.length + appIndex.getData().length + 1024);
+        try (DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+            dataOutputStream.writeInt(MAGIC_NUMBER);
+            dataOutputStream.writeShort(FORMAT_VERSION);
+            dataOutputStream.writeInt(dependencyTree.length);
+            dataOutputStream.write(dependencyTree);
+
+            dataOutputStream.writeInt(appIndex.getComponents().size());
+            for (AppIndex.Component component : appIndex.getComponents()) {
+                writeString(dataOutputStream, component.getFullyQualifiedName());
+                writeString(dataOutputStream, component.getDirectoryName());
+                writeString(dataOutputStream, component.getContextPath());
+
+                dataOutputStream.writeInt(component.getBindings().size());
+                for (ComponentConfig.Binding binding : component.getBindings()) {
+                    writeString(dataOutputStream, binding.getZoneName());
+                    writeString(dataOutputStream, (binding.getMode() == null) ?
+                            ComponentConfig.Binding.MODE_PREPEND : binding.getMode());
+                    dataOutputStream.writeInt(binding.getFragments().size());
+                    for (String fragment : binding.getFragments()) {
+                        writeString(dataOutputStream, fragment);
+                    }
+                }
+
+                dataOutputStream.writeInt(component.getApis().size());
+                for (ComponentConfig.API api : component.getApis()) {
+                    writeString(dataOutputStream, api.getClassName());
+                    writeString(dataOutputStream, api.getUri());
+                }
+
+                dataOutputStream.writeBoolean(component.getOsgiImports() != null);
+                if (component.getOsgiImports() != null) {
+                    writeString(dataOutputStream, component.getOsgiImports());
+                }
+
+                dataOutputStream.writeInt(component.getFiles().size());
+                for (AppIndex.IndexedFile file : component.getFiles()) {
+                    dataOutputStream.writeByte(file.getKind().ordinal());
+                    writeString(dataOutputStream, file.getPath());
+                    dataOutputStream.writeInt(file.getOffset());
+                    dataOutputStream.writeInt(file.getLength());
+                }
+            }
+
+            dataOutputStream.writeInt(appIndex.getData().length);
+            dataOutputStream.write(appIndex.getData());
+        } catch (IOException e) {
+            throw new SerializationException(
+                    "Cannot serialize app index where root node " + appIndex.getDependencyTree() + ".", e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static void writeString(DataOutputStream dataOutputStream, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        dataOutputStream.writeInt(bytes.length);
+        dataOutputStream.write(bytes);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.serializer;
+
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.exception.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * Binary serializer which can serialize a dependency tree into a compact, length-prefixed format.
+ * <p>
+ * The format is a 4-byte magic number, a 2-byte format version, a 4-byte node count and then the nodes in pre-order.
+ * Each node is written as its artifact ID and version (both in modified UTF-8 with a 2-byte length prefix) followed by
+ * a 4-byte count of its dependencies. Use {@link org.wso2.carbon.uuf.maven.parser.DependencyTreeBinaryParser} to
+ * read it back.
+ *
+ * @since 1.0.0
+ */
+public class DependencyTreeBinarySerializer {
+
+    /**
+     * Magic number at the beginning of a binary dependency tree ("UUFT").
+     */
+    public static final int MAGIC_NUMBER = 0x55554654;
+    /**
+     * Version of the binary dependency tree format.
+     */
+    public static final short FORMAT_VERSION = 1;
+
+    /**
+     * Serialize the specified dependency tree to the binary format.
+     *
+     * @param rootNode root node of the dependency tree to be serialize
+     * @return binary representation of the dependency tree
+     * @throws SerializationException if an error occurred during serialization
+     */
+    public static byte[] serialize(DependencyNode rootNode) throws SerializationException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+            dataOutputStream.writeInt(MAGIC_NUMBER);
+            dataOutputStream.writeShort(FORMAT_VERSION);
+            dataOutputStream.writeInt((int) rootNode.stream().count());
+            Iterator<DependencyNode> iterator = rootNode.iterator(DependencyNode.TraversalOrder.PRE_ORDER);
+            while (iterator.hasNext()) {
+                DependencyNode node = iterator.next();
+                dataOutputStream.writeUTF(node.getArtifactId());
+                dataOutputStream.writeUTF(node.getVersion());
+                dataOutputStream.writeInt(node.getDependencies().size());
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Cannot serialize dependency tree where root node " + rootNode + ".", e);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+}
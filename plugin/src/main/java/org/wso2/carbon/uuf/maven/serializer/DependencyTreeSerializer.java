@@ -29,6 +29,7 @@ import org.yaml.snakeyaml.representer.Representer;
 
 import java.beans.IntrospectionException;
 import java.beans.PropertyDescriptor;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
 
@@ -39,6 +40,9 @@ import java.util.Set;
  */
 public class DependencyTreeSerializer {
 
+    private static final ThreadLocal<Yaml> YAML =
+            ThreadLocal.withInitial(() -> new Yaml(new DependencyNodeRepresenter()));
+
     /**
      * Serialize the specified dependency tree to YAML.
      *
@@ -47,9 +51,8 @@ public class DependencyTreeSerializer {
      * @throws SerializationException if an error occurred during serialization
      */
     public static String serialize(DependencyNode rootNode) throws SerializationException {
-        Yaml yaml = new Yaml(new DependencyNodeRepresenter());
         try {
-            return yaml.dumpAs(rootNode, Tag.MAP, DumperOptions.FlowStyle.BLOCK);
+            return YAML.get().dumpAs(rootNode, Tag.MAP, DumperOptions.FlowStyle.BLOCK);
         } catch (Exception e) {
             throw new SerializationException("Cannot serialize dependency tree where root node " + rootNode + ".", e);
         }
@@ -64,12 +67,23 @@ public class DependencyTreeSerializer {
      */
     private static class DependencyNodeRepresenter extends Representer {
 
+        private static final Set<Property> PROPERTIES = getProperties();
+
         /**
          * Creates a new {@link DependencyNodeRepresenter}.
+         */
+        public DependencyNodeRepresenter() {
+            this.representers.put(DependencyNode.class, data -> representJavaBean(PROPERTIES, data));
+        }
+
+        /**
+         * Retrieves the serialized properties of {@link DependencyNode} class. Introspection is done once per class
+         * loading, as the properties do not change.
          *
+         * @return serialized properties in their appearing order
          * @throws RuntimeException if cannot retrieve JavaBean properties from {@link DependencyNode} class.
          */
-        public DependencyNodeRepresenter() {
+        private static Set<Property> getProperties() {
             Set<Property> properties = new LinkedHashSet<>(); // to preserve order
             try {
                 properties.add(new MethodProperty(new PropertyDescriptor("artifactId", DependencyNode.class,
@@ -84,7 +98,7 @@ public class DependencyTreeSerializer {
                 throw new RuntimeException(
                         "Cannot retrieve properties in JavaBean '" + DependencyNode.class.getName() + "'.", e);
             }
-            this.representers.put(DependencyNode.class, data -> representJavaBean(properties, data));
+            return Collections.unmodifiableSet(properties);
         }
     }
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.serializer;
+
+import org.wso2.carbon.uuf.maven.exception.SerializationException;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.nodes.Tag;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+
+/**
+ * JSON serializer for data models represented as YAML nodes (see {@link YamlSerializer#represent(Object)}).
+ * <p>
+ * Serializing the same represented node as YAML and as JSON keeps both outputs identical in content. The JSON output
+ * is compact (no insignificant whitespace) and aliases are written out in full.
+ *
+ * @since 1.0.0
+ */
+public class JsonSerializer {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Serializes the specified represented data model into JSON and writes it to the specified writer.
+     *
+     * @param node   represented data model
+     * @param writer writer to write the JSON representation
+     * @throws SerializationException if the data model cannot be represented in JSON or an error occurred when writing
+     */
+    public static void serialize(Node node, Writer writer) throws SerializationException {
+        try {
+            writeNode(node, writer);
+        } catch (IOException e) {
+            throw new SerializationException("Cannot write JSON representation of " + node + ".", e);
+        }
+    }
+
+    private static void writeNode(Node node, Writer writer) throws IOException, SerializationException {
+        if (node instanceof MappingNode) {
+            writer.write('{');
+            Iterator<NodeTuple> tuples = ((MappingNode) node).getValue().iterator();
+            while (tuples.hasNext()) {
+                NodeTuple tuple = tuples.next();
+                if (!(tuple.getKeyNode() instanceof ScalarNode)) {
+                    throw new SerializationException(
+                            "Cannot represent a non-scalar key " + tuple.getKeyNode() + " in JSON.");
+                }
+                writeString(((ScalarNode) tuple.getKeyNode()).getValue(), writer);
+                writer.write(':');
+                writeNode(tuple.getValueNode(), writer);
+                if (tuples.hasNext()) {
+                    writer.write(',');
+                }
+            }
+            writer.write('}');
+        } else if (node instanceof SequenceNode) {
+            writer.write('[');
+            Iterator<Node> items = ((SequenceNode) node).getValue().iterator();
+            while (items.hasNext()) {
+                writeNode(items.next(), writer);
+                if (items.hasNext()) {
+                    writer.write(',');
+                }
+            }
+            writer.write(']');
+        } else {
+            writeScalar((ScalarNode) node, writer);
+        }
+    }
+
+    private static void writeScalar(ScalarNode node, Writer writer) throws IOException {
+        Tag tag = node.getTag();
+        String value = node.getValue();
+        if (tag.equals(Tag.NULL)) {
+            writer.write("null");
+        } else if (tag.equals(Tag.BOOL) || tag.equals(Tag.INT)) {
+            writer.write(value);
+        } else if (tag.equals(Tag.FLOAT)) {
+            // JSON has no notation for NaN and infinities (represented as '.NaN', '.inf' and '-.inf' in YAML).
+            writer.write((value.endsWith("NaN") || value.endsWith("inf")) ? "null" : value);
+        } else {
+            writeString(value, writer);
+        }
+    }
+
+    private static void writeString(String value, Writer writer) throws IOException {
+        writer.write('"');
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if ((c >= 0x20) && (c != '"') && (c != '\\')) {
+                continue;
+            }
+            writer.write(value, start, i - start);
+            start = i + 1;
+            switch (c) {
+                case '"':
+                    writer.write("\\\"");
+                    break;
+                case '\\':
+                    writer.write("\\\\");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                default:
+                    writer.write("\\u00");
+                    writer.write(HEX_DIGITS[c >> 4]);
+                    writer.write(HEX_DIGITS[c & 0xF]);
+            }
+        }
+        writer.write(value, start, value.length() - start);
+        writer.write('"');
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.serializer;
+
+import org.wso2.carbon.uuf.maven.exception.SerializationException;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+
+/**
+ * Serializer for properties, in the format read by {@link java.util.Properties#load(java.io.Reader)}.
+ * <p>
+ * Unlike {@link java.util.Properties#store(Writer, String)}, properties are written in the iteration order of the
+ * specified map without a timestamp, hence the output is reproducible. Characters outside printable ASCII are escaped,
+ * so the output can be read in any ASCII compatible encoding.
+ *
+ * @since 1.0.0
+ */
+public class PropertiesSerializer {
+
+    private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+    /**
+     * Serializes the specified properties and writes them to the specified writer.
+     *
+     * @param properties properties to serialize
+     * @param writer     writer to write the serialized properties
+     * @throws SerializationException if an error occurred when writing
+     */
+    public static void serialize(Map<String, String> properties, Writer writer) throws SerializationException {
+        try {
+            for (Map.Entry<String, String> entry : properties.entrySet()) {
+                writeEscaped(entry.getKey(), true, writer);
+                writer.write('=');
+                writeEscaped(entry.getValue(), false, writer);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Cannot write properties " + properties + ".", e);
+        }
+    }
+
+    private static void writeEscaped(String value, boolean isKey, Writer writer) throws IOException {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\t':
+                    writer.write("\\t");
+                    break;
+                case '\n':
+                    writer.write("\\n");
+                    break;
+                case '\r':
+                    writer.write("\\r");
+                    break;
+                case '\f':
+                    writer.write("\\f");
+                    break;
+                case '\\':
+                case '=':
+                case ':':
+                case '#':
+                case '!':
+                    writer.write('\\');
+                    writer.write(c);
+                    break;
+                case ' ':
+                    // Spaces separate a key from its value, and leading spaces of a value are skipped when reading.
+                    if (isKey || (i == 0)) {
+                        writer.write('\\');
+                    }
+                    writer.write(c);
+                    break;
+                default:
+                    if ((c < 0x20) || (c > 0x7E)) {
+                        writer.write("\\u");
+                        writer.write(HEX_DIGITS[(c >> 12) & 0xF]);
+                        writer.write(HEX_DIGITS[(c >> 8) & 0xF]);
+                        writer.write(HEX_DIGITS[(c >> 4) & 0xF]);
+                        writer.write(HEX_DIGITS[c & 0xF]);
+                    } else {
+                        writer.write(c);
+                    }
+            }
+        }
+    }
+}
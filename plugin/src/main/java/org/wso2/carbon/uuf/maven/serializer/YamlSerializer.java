@@ -19,9 +19,15 @@
 package org.wso2.carbon.uuf.maven.serializer;
 
 import org.wso2.carbon.uuf.maven.exception.SerializationException;
+import org.wso2.carbon.uuf.maven.util.YamlEngines;
 import org.yaml.snakeyaml.DumperOptions;
-import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.emitter.Emitter;
+import org.yaml.snakeyaml.nodes.Node;
 import org.yaml.snakeyaml.nodes.Tag;
+import org.yaml.snakeyaml.resolver.Resolver;
+import org.yaml.snakeyaml.serializer.Serializer;
+
+import java.io.Writer;
 
 /**
  * YAML serializer for serializing any data model.
@@ -38,13 +44,59 @@ public class YamlSerializer {
      * @throws SerializationException if an error occurred during serialization
      */
     public static String serialize(Object data) throws SerializationException {
-        DumperOptions dumperOptions = new DumperOptions();
-        dumperOptions.setAllowReadOnlyProperties(true);
-        Yaml yaml = new Yaml(dumperOptions);
         try {
-            return yaml.dumpAs(data, Tag.MAP, DumperOptions.FlowStyle.BLOCK);
+            return YamlEngines.dumper().dumpAs(data, Tag.MAP, DumperOptions.FlowStyle.BLOCK);
         } catch (Exception e) {
             throw new SerializationException("Cannot serialize config " + data + ".", e);
         }
     }
+
+    /**
+     * Serializes the specified config into a YAML and writes it to the specified writer as it is being emitted, so that
+     * the whole YAML document is never held in memory.
+     *
+     * @param data   config data object to serialize as YAML content
+     * @param writer writer to write the YAML representation of the config
+     * @throws SerializationException if an error occurred during serialization or writing
+     */
+    public static void serialize(Object data, Writer writer) throws SerializationException {
+        serialize(represent(data), writer);
+    }
+
+    /**
+     * Represents the specified config as a YAML node tree, which can be serialized into YAML with {@link
+     * #serialize(Node, Writer)} or into other formats (e.g. {@link JsonSerializer}) without representing it again.
+     *
+     * @param data config data object to represent
+     * @return root node of the representation
+     * @throws SerializationException if an error occurred during representation
+     */
+    public static Node represent(Object data) throws SerializationException {
+        try {
+            return YamlEngines.dumper().represent(data);
+        } catch (Exception e) {
+            throw new SerializationException("Cannot serialize config " + data + ".", e);
+        }
+    }
+
+    /**
+     * Serializes the specified represented config into a YAML and writes it to the specified writer as it is being
+     * emitted.
+     *
+     * @param node   root node of the represented config
+     * @param writer writer to write the YAML representation of the config
+     * @throws SerializationException if an error occurred during serialization or writing
+     */
+    public static void serialize(Node node, Writer writer) throws SerializationException {
+        DumperOptions dumperOptions = YamlEngines.dumperOptions();
+        try {
+            Serializer serializer = new Serializer(new Emitter(writer, dumperOptions), new Resolver(), dumperOptions,
+                                                   Tag.MAP);
+            serializer.open();
+            serializer.serialize(node);
+            serializer.close();
+        } catch (Exception e) {
+            throw new SerializationException("Cannot serialize represented config.", e);
+        }
+    }
 }
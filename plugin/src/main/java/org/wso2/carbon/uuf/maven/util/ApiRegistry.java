@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+/**
+ * Collects the APIs of all the components of an app into a single registry, where the URI of each API is prefixed
+ * with the context path of its component, in the same way as the URIs of pages.
+ *
+ * @since 1.0.0
+ */
+public class ApiRegistry {
+
+    private static final String KEY_URI = "uri";
+    private static final String KEY_CLASS_NAME = "className";
+    private static final String KEY_COMPONENT = "component";
+
+    private final List<Entry> entries = new ArrayList<>();
+    private final Set<String> components = new HashSet<>();
+
+    /**
+     * Adds the specified APIs of a component to this registry. A component that several components depend on appears
+     * more than once in the dependency tree, but its APIs are added only once.
+     *
+     * @param componentQualifiedName fully qualified name of the component
+     * @param uriPrefix              prefix of the URIs of the APIs of the component; empty for the root component
+     * @param apis                   APIs of the component, can be {@code null}
+     */
+    public void addApis(String componentQualifiedName, String uriPrefix, List<ComponentConfig.API> apis) {
+        if (!components.add(componentQualifiedName) || (apis == null)) {
+            return;
+        }
+        for (ComponentConfig.API api : apis) {
+            entries.add(new Entry(uriPrefix + api.getUri(), api.getClassName(), componentQualifiedName));
+        }
+    }
+
+    /**
+     * Returns the APIs in this registry sorted by their URIs.
+     *
+     * @return APIs as maps of {@code uri}, {@code className} and {@code component}
+     * @throws MojoExecutionException if two APIs have the same URI or the URI of an API is a path prefix of another's,
+     *                                as requests to such URIs cannot be routed unambiguously
+     */
+    public List<Map<String, String>> getApis() throws MojoExecutionException {
+        List<Entry> sortedEntries = new ArrayList<>(entries);
+        sortedEntries.sort(Comparator.comparing(entry -> entry.basePath));
+
+        // In the sorted order, a path prefix comes before all the paths it is a prefix of. Hence keeping a stack of
+        // paths that are prefixes of each other is enough to find every conflict.
+        List<String> conflicts = new ArrayList<>();
+        Deque<Entry> prefixes = new ArrayDeque<>();
+        for (Entry entry : sortedEntries) {
+            while (!prefixes.isEmpty() && !entry.basePath.startsWith(prefixes.peek().basePath)) {
+                prefixes.pop();
+            }
+            if (!prefixes.isEmpty()) {
+                Entry prefix = prefixes.peek();
+                conflicts.add("'" + prefix.uri + "' of '" + prefix.component + "' " +
+                                      (prefix.basePath.equals(entry.basePath) ? "duplicates" : "overlaps") + " '" +
+                                      entry.uri + "' of '" + entry.component + "'");
+            }
+            prefixes.push(entry);
+        }
+        if (!conflicts.isEmpty()) {
+            throw new MojoExecutionException("Cannot register APIs as following URIs conflict: " +
+                                             String.join(", ", conflicts) + ".");
+        }
+
+        List<Map<String, String>> apis = new ArrayList<>(sortedEntries.size());
+        for (Entry entry : sortedEntries) {
+            Map<String, String> api = new LinkedHashMap<>();
+            api.put(KEY_URI, entry.uri);
+            api.put(KEY_CLASS_NAME, entry.className);
+            api.put(KEY_COMPONENT, entry.component);
+            apis.add(api);
+        }
+        return apis;
+    }
+
+    /**
+     * Checks that the class of each API in this registry exists in one of the specified bundles. A class that is not
+     * in the found bundles may still be in a bundle whose JAR file was not found, hence such classes are returned
+     * instead of failing when some bundles are missing.
+     *
+     * @param bundleFiles    JAR files of the bundles that were found
+     * @param missingBundles symbolic names of the bundles whose JAR files were not found
+     * @return API classes that are not in the found bundles and therefore cannot be checked, empty if there are no
+     * missing bundles
+     * @throws MojoExecutionException if the class of an API does not exist in any of the bundles while no bundle is
+     *                                missing, or if a bundle cannot be read
+     */
+    public Set<String> verifyClasses(List<File> bundleFiles, Collection<String> missingBundles)
+            throws MojoExecutionException {
+        Set<String> missingClassNames = entries.stream()
+                .map(entry -> entry.className)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        for (File bundleFile : bundleFiles) {
+            if (missingClassNames.isEmpty()) {
+                return Collections.emptySet();
+            }
+            try (JarFile jarFile = new JarFile(bundleFile)) {
+                missingClassNames.removeIf(className -> jarFile.getEntry(toClassFileName(className)) != null);
+            } catch (IOException e) {
+                throw new MojoExecutionException("Cannot read bundle '" + bundleFile + "'.", e);
+            }
+        }
+        if (!missingClassNames.isEmpty() && missingBundles.isEmpty()) {
+            throw new MojoExecutionException("Cannot find following API classes in the bundles of the app: " +
+                                             String.join(", ", missingClassNames) + ".");
+        }
+        return missingClassNames;
+    }
+
+    private static String toClassFileName(String className) {
+        return className.replace('.', '/') + ".class";
+    }
+
+    /**
+     * An API in this registry.
+     */
+    private static class Entry {
+
+        private final String uri;
+        private final String basePath;
+        private final String className;
+        private final String component;
+
+        Entry(String uri, String className, String component) {
+            this.uri = uri;
+            // Compare paths segment-wise, e.g. '/a/b' is a prefix of '/a/b/c' but not of '/a/bc'.
+            this.basePath = uri.endsWith("/") ? uri : (uri + "/");
+            this.className = className;
+            this.component = component;
+        }
+    }
+}
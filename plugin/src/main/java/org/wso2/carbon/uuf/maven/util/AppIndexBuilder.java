@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.wso2.carbon.uuf.maven.bean.AppIndex;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Builds the {@link AppIndex} of an app from the components in its "components" directory. Static resources (files
+ * in "public" directories) are served as they are, hence are not indexed.
+ *
+ * @since 1.0.0
+ */
+public class AppIndexBuilder {
+
+    private static final String FILE_OSGI_IMPORTS = "osgi-imports";
+    private static final String DIRECTORY_PUBLIC = "public";
+
+    private final Path componentsDirectory;
+    private final List<AppIndex.Component> components = new ArrayList<>();
+    private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+
+    /**
+     * Creates a new app index builder for the components in the specified directory.
+     *
+     * @param componentsDirectory the "components" directory within the app
+     */
+    public AppIndexBuilder(Path componentsDirectory) {
+        this.componentsDirectory = componentsDirectory;
+    }
+
+    /**
+     * Adds the specified component to the index.
+     *
+     * @param componentQualifiedName fully qualified name of the component
+     * @param componentDirectoryName name of the directory of the component within the "components" directory
+     * @param componentContextPath   context path of the component, empty for the root component
+     * @param componentConfig        configuration of the component
+     * @throws MojoExecutionException if a file of the component cannot be read
+     */
+    public void addComponent(String componentQualifiedName, String componentDirectoryName,
+                             String componentContextPath, ComponentConfig componentConfig)
+            throws MojoExecutionException {
+        Path componentDirectory = componentsDirectory.resolve(componentDirectoryName);
+        List<AppIndex.IndexedFile> files = new ArrayList<>();
+        for (AppIndex.FileKind kind : AppIndex.FileKind.values()) {
+            for (Path file : listFiles(componentDirectory.resolve(kind.getDirectoryName()))) {
+                byte[] content = readFile(file);
+                files.add(new AppIndex.IndexedFile(kind, toPath(componentDirectory.relativize(file)), data.size(),
+                                                   content.length));
+                data.write(content, 0, content.length);
+            }
+        }
+
+        Path osgiImportsFile = componentDirectory.resolve(FILE_OSGI_IMPORTS);
+        String osgiImports = Files.isRegularFile(osgiImportsFile) ?
+                new String(readFile(osgiImportsFile), StandardCharsets.UTF_8) : null;
+        components.add(new AppIndex.Component(componentQualifiedName, componentDirectoryName, componentContextPath,
+                                              nonNull(componentConfig.getBindings()),
+                                              nonNull(componentConfig.getApis()), osgiImports, files));
+    }
+
+    /**
+     * Builds the app index with the components added so far.
+     *
+     * @param rootNode root node of the dependency tree of the app
+     * @return app index
+     */
+    public AppIndex build(DependencyNode rootNode) {
+        return new AppIndex(rootNode, new ArrayList<>(components), data.toByteArray());
+    }
+
+    private static List<Path> listFiles(Path directory) throws MojoExecutionException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.walk(directory)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(file -> StreamSupport.stream(directory.relativize(file).spliterator(), false)
+                            .noneMatch(name -> DIRECTORY_PUBLIC.equals(name.toString())))
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot list files in '" + directory + "'.", e);
+        }
+    }
+
+    private static byte[] readFile(Path file) throws MojoExecutionException {
+        try {
+            return Files.readAllBytes(file);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot read '" + file + "' file.", e);
+        }
+    }
+
+    private static String toPath(Path relativePath) {
+        return StreamSupport.stream(relativePath.spliterator(), false)
+                .map(Path::toString)
+                .collect(Collectors.joining("/"));
+    }
+
+    private static <T> List<T> nonNull(List<T> list) {
+        return (list == null) ? Collections.emptyList() : list;
+    }
+}
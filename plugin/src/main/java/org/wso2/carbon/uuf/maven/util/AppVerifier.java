@@ -0,0 +1,214 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.wso2.carbon.uuf.maven.bean.AppConfig;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.bean.ThemeConfig;
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.parser.ParsedConfigCache;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Verifies the cross-references of an assembled (exploded) app, i.e. the theme, error pages and login page of the
+ * app, the fragments bound by the components and the CSS and JS files of the themes. Each kind of referenced item is
+ * indexed once, hence each reference is checked with a hash lookup.
+ *
+ * @since 1.0.0
+ */
+public class AppVerifier {
+
+    private static final String FILE_COMPONENT_CONFIG = "component.yaml";
+    private static final String FILE_THEME_CONFIG = "theme.yaml";
+    private static final String DIRECTORY_FRAGMENTS = "fragments";
+    private static final String DIRECTORY_PUBLIC = "public";
+
+    private final Path componentsDirectory;
+    private final Path themesDirectory;
+    private final YamlLimits yamlLimits;
+    private final RouteTable routeTable;
+    private final Set<String> fragments = new HashSet<>();
+    private final Map<String, List<ComponentConfig.Binding>> bindings = new LinkedHashMap<>();
+    private Set<String> themes;
+
+    /**
+     * Creates a new verifier for the specified exploded app.
+     *
+     * @param componentsDirectory the "components" directory within the app
+     * @param themesDirectory     the "themes" directory within the app
+     * @param yamlLimits          resource limits for parsing configuration files
+     */
+    public AppVerifier(Path componentsDirectory, Path themesDirectory, YamlLimits yamlLimits) {
+        this.componentsDirectory = componentsDirectory;
+        this.themesDirectory = themesDirectory;
+        this.yamlLimits = yamlLimits;
+        this.routeTable = new RouteTable(componentsDirectory);
+    }
+
+    /**
+     * Indexes the pages and fragments of the specified component and records its bindings. Components should be added
+     * in the dependency tree traversal order.
+     *
+     * @param componentQualifiedName fully qualified name of the component
+     * @param componentDirectoryName name of the directory of the component within the "components" directory
+     * @param uriPrefix              prefix of the URIs of the pages of the component; empty for the root component
+     * @throws MojoExecutionException if the component cannot be read
+     */
+    public void addComponent(String componentQualifiedName, String componentDirectoryName, String uriPrefix)
+            throws MojoExecutionException {
+        Path componentDirectory = componentsDirectory.resolve(componentDirectoryName);
+        routeTable.addPages(componentQualifiedName, componentDirectoryName, uriPrefix);
+        for (Path fragmentDirectory : listDirectories(componentDirectory.resolve(DIRECTORY_FRAGMENTS))) {
+            fragments.add(componentQualifiedName + "." + fragmentDirectory.getFileName());
+        }
+
+        Path configFile = componentDirectory.resolve(FILE_COMPONENT_CONFIG);
+        try {
+            ComponentConfig componentConfig = ParsedConfigCache.parse(configFile.toString(), ComponentConfig.class,
+                                                                      yamlLimits);
+            bindings.put(componentQualifiedName, componentConfig.getBindings());
+        } catch (ParsingException e) {
+            throw new MojoExecutionException("Cannot parse '" + configFile + "' of '" + componentQualifiedName + "'.",
+                                             e);
+        }
+    }
+
+    /**
+     * Verifies the fragments bound by the added components and the CSS and JS files referenced by the themes of the
+     * app.
+     *
+     * @return descriptions of the references that do not resolve, empty if all of them resolve
+     * @throws MojoExecutionException if a theme of the app cannot be read
+     */
+    public List<String> verify() throws MojoExecutionException {
+        List<String> errors = new ArrayList<>();
+        BindingResolver bindingResolver = new BindingResolver(fragments);
+        bindings.forEach(bindingResolver::addBindings);
+        try {
+            bindingResolver.getZones();
+        } catch (MojoExecutionException e) {
+            errors.add(e.getMessage());
+        }
+        for (Path themeDirectory : listDirectories(themesDirectory)) {
+            verifyTheme(themeDirectory.getFileName().toString(), themeDirectory, errors);
+        }
+        return errors;
+    }
+
+    /**
+     * Verifies the theme, login page and error pages of the specified app configuration against the app.
+     *
+     * @param appConfig app configuration to verify
+     * @return descriptions of the references that do not resolve, empty if all of them resolve
+     * @throws MojoExecutionException if the themes of the app cannot be listed
+     */
+    public List<String> verify(AppConfig appConfig) throws MojoExecutionException {
+        if (themes == null) {
+            themes = listDirectories(themesDirectory).stream()
+                    .map(themeDirectory -> themeDirectory.getFileName().toString())
+                    .collect(Collectors.toSet());
+        }
+
+        List<String> errors = new ArrayList<>();
+        if ((appConfig.getTheme() != null) && !themes.contains(appConfig.getTheme())) {
+            errors.add("Theme '" + appConfig.getTheme() + "' of the app does not exist in '" + themesDirectory +
+                               "'.");
+        }
+        if ((appConfig.getLoginPageUri() != null) && !routeTable.hasRoute(appConfig.getLoginPageUri())) {
+            errors.add("There is no page for login page URI '" + appConfig.getLoginPageUri() + "' of the app.");
+        }
+        appConfig.getErrorPages().forEach((httpStatusCode, uri) -> {
+            if (!routeTable.hasRoute(uri)) {
+                errors.add("There is no page for '" + httpStatusCode + "' error page URI '" + uri + "' of the app.");
+            }
+        });
+        return errors;
+    }
+
+    private void verifyTheme(String themeName, Path themeDirectory, List<String> errors)
+            throws MojoExecutionException {
+        Path configFile = themeDirectory.resolve(FILE_THEME_CONFIG);
+        ThemeConfig themeConfig;
+        try {
+            themeConfig = ParsedConfigCache.parse(configFile.toString(), ThemeConfig.class, yamlLimits);
+        } catch (ParsingException e) {
+            throw new MojoExecutionException("Cannot parse '" + configFile + "' of '" + themeName + "' theme.", e);
+        }
+        if (themeConfig == null) {
+            return;
+        }
+
+        Path publicDirectory = themeDirectory.resolve(DIRECTORY_PUBLIC);
+        Set<String> publicFiles = listFiles(publicDirectory);
+        Map<String, List<String>> referencedFiles = new LinkedHashMap<>();
+        referencedFiles.put("CSS", themeConfig.getCss());
+        referencedFiles.put("head JS", themeConfig.getHeadJs());
+        referencedFiles.put("JS", themeConfig.getJs());
+        referencedFiles.forEach((kind, relativePaths) -> {
+            for (String relativePath : (relativePaths == null) ? Collections.<String>emptyList() : relativePaths) {
+                if (!publicFiles.contains(relativePath)) {
+                    errors.add(kind + " file '" + relativePath + "' of '" + themeName + "' theme does not exist in '" +
+                                       publicDirectory + "'.");
+                }
+            }
+        });
+    }
+
+    private static List<Path> listDirectories(Path directory) throws MojoExecutionException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(Files::isDirectory).sorted().collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot list directories in '" + directory + "'.", e);
+        }
+    }
+
+    private static Set<String> listFiles(Path directory) throws MojoExecutionException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptySet();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths
+                    .filter(Files::isRegularFile)
+                    .map(file -> StreamSupport.stream(directory.relativize(file).spliterator(), false)
+                            .map(Path::toString)
+                            .collect(Collectors.joining("/")))
+                    .collect(Collectors.toSet());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot list files in '" + directory + "'.", e);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Resolves the bindings of all the components of an app into the final fragments of each zone, in the same way the
+ * UUF runtime fills zones.
+ *
+ * @since 1.0.0
+ */
+public class BindingResolver {
+
+    private final Set<String> fragments;
+    private final Map<String, List<String>> zones = new TreeMap<>();
+    private final List<String> unknownFragments = new ArrayList<>();
+    private final Set<String> components = new HashSet<>();
+
+    /**
+     * Creates a new resolver.
+     *
+     * @param fragments fully qualified names of all the fragments available in the app
+     */
+    public BindingResolver(Set<String> fragments) {
+        this.fragments = fragments;
+    }
+
+    /**
+     * Returns the fully qualified name of the specified fragment or zone name used in the specified component. A name
+     * without a dot is a simple name relative to the component.
+     *
+     * @param name                   name used in a binding
+     * @param componentQualifiedName fully qualified name of the component that uses the name
+     * @return fully qualified name
+     */
+    public static String qualify(String name, String componentQualifiedName) {
+        return (name.indexOf('.') == -1) ? (componentQualifiedName + "." + name) : name;
+    }
+
+    /**
+     * Applies the specified bindings of a component over the bindings applied so far. Components should be added in
+     * the dependency tree traversal order, so that a component's bindings are applied after its dependencies'. A
+     * component that several components depend on appears more than once in the dependency tree, but only its first
+     * occurrence is applied, so that it does not undo the bindings of the components that depend on it.
+     *
+     * @param componentQualifiedName fully qualified name of the component
+     * @param bindings               bindings of the component, can be {@code null}
+     */
+    public void addBindings(String componentQualifiedName, List<ComponentConfig.Binding> bindings) {
+        if (!components.add(componentQualifiedName) || (bindings == null)) {
+            return;
+        }
+        for (ComponentConfig.Binding binding : bindings) {
+            String zoneName = qualify(binding.getZoneName(), componentQualifiedName);
+            List<String> bindingFragments = new ArrayList<>(binding.getFragments().size());
+            for (String fragment : binding.getFragments()) {
+                String fragmentName = qualify(fragment, componentQualifiedName);
+                if (!fragments.contains(fragmentName)) {
+                    unknownFragments.add("'" + fragmentName + "' bound to zone '" + zoneName + "' in component '" +
+                                                 componentQualifiedName + "'");
+                }
+                bindingFragments.add(fragmentName);
+            }
+
+            List<String> zoneFragments = zones.computeIfAbsent(zoneName, key -> new ArrayList<>());
+            String mode = (binding.getMode() == null) ? ComponentConfig.Binding.MODE_PREPEND : binding.getMode();
+            switch (mode) {
+                case ComponentConfig.Binding.MODE_APPEND:
+                    zoneFragments.addAll(bindingFragments);
+                    break;
+                case ComponentConfig.Binding.MODE_OVERWRITE:
+                    zoneFragments.clear();
+                    zoneFragments.addAll(bindingFragments);
+                    break;
+                default:
+                    zoneFragments.addAll(0, bindingFragments);
+            }
+        }
+    }
+
+    /**
+     * Returns the resolved fragments of each zone.
+     *
+     * @return ordered fragments keyed by zone names, sorted by zone names
+     * @throws MojoExecutionException if a binding refers to a fragment that does not exist in the app
+     */
+    public Map<String, List<String>> getZones() throws MojoExecutionException {
+        if (!unknownFragments.isEmpty()) {
+            throw new MojoExecutionException("Cannot resolve bindings as following fragments do not exist: " +
+                                             String.join(", ", unknownFragments) + ".");
+        }
+        return Collections.unmodifiableMap(zones);
+    }
+}
@@ -20,20 +20,29 @@ package org.wso2.carbon.uuf.maven.util;
 
 import org.apache.commons.io.IOUtils;
 import org.apache.maven.plugin.MojoExecutionException;
+import org.wso2.carbon.uuf.maven.bean.AppConfig;
+import org.wso2.carbon.uuf.maven.bean.Configuration;
 import org.wso2.carbon.uuf.maven.bean.mojo.Bundle;
 import org.wso2.carbon.uuf.maven.exception.SerializationException;
 import org.wso2.carbon.uuf.maven.bean.mojo.BundleListConfig;
+import org.wso2.carbon.uuf.maven.serializer.JsonSerializer;
+import org.wso2.carbon.uuf.maven.serializer.PropertiesSerializer;
 import org.wso2.carbon.uuf.maven.serializer.YamlSerializer;
+import org.yaml.snakeyaml.nodes.Node;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import static org.wso2.carbon.uuf.maven.ComponentMojo.FILE_BUNDLES;
@@ -45,12 +54,28 @@ import static org.wso2.carbon.uuf.maven.ComponentMojo.FILE_BUNDLES;
  */
 public class ConfigFileCreator {
 
-    private static final String FILE_CONFIGURATION_YAML = "configuration.yaml";
-    private static final String FILE_DEPENDENCY_TREE = "dependency-tree.yaml";
+    private static final String FILE_CONFIGURATION = "configuration";
+    private static final String EXTENSION_YAML = ".yaml";
+    private static final String EXTENSION_JSON = ".json";
+    private static final String FILE_ZONES = "zones.yaml";
+    private static final String FILE_APIS = "apis.yaml";
+    private static final String FILE_ROUTES = "routes.yaml";
+    private static final String FILE_LANG_BUNDLE = "lang-%s.properties";
+    private static final String FILE_SECURITY_URIS = "security-uris";
+    private static final String FILE_MENUS = "menus";
+    private static final String FILE_HEADERS_PAGES = "headers-pages";
+    private static final String FILE_HEADERS_STATIC_RESOURCES = "headers-static-resources";
+    private static final String EXTENSION_HEADERS = ".http";
+    public static final String FILE_DEPENDENCY_TREE = "dependency-tree.yaml";
+    private static final String FILE_DEPENDENCY_TREE_BINARY = "dependency-tree.bin";
+    private static final String FILE_DEPENDENCY_TREE_DIFF = "dependency-tree-diff.txt";
+    private static final String FILE_APP_INDEX = "app.index";
     private static final String FILE_OSGI_IMPORTS = "osgi-imports";
     private static final String TEMPLATE_FEATURE_PROPERTIES = "feature.properties";
     private static final String TEMPLATE_P2_INF = "p2.inf";
     private static final String TEMPLATE_GENERATED_FILE = "generated-file";
+    private static final String TEMPLATE_PLACEHOLDER = "%s";
+    private static final Map<String, String> TEMPLATES = new ConcurrentHashMap<>();
 
     /**
      * Creates the OSGI imports file with the specified content in the specified path.
@@ -95,14 +120,11 @@ public class ConfigFileCreator {
             createDirectory(Paths.get(outputDirectoryPath));
             BundleListConfig bundleListConfig = new BundleListConfig();
             bundleListConfig.setBundles(bundles);
-            String content;
             try {
-                content = YamlSerializer.serialize(bundleListConfig);
+                writeYamlFile(Paths.get(outputDirectoryPath, FILE_BUNDLES), bundleListConfig);
             } catch (SerializationException e) {
                 throw new MojoExecutionException("Cannot serialize configuration " + bundleListConfig + ".", e);
             }
-            writeFile(Paths.get(outputDirectoryPath, FILE_BUNDLES),
-                    applyTemplate(TEMPLATE_GENERATED_FILE, content));
         } catch (IOException e) {
             throw new MojoExecutionException(
                     "Cannot create '" + FILE_BUNDLES + "' file in '" + outputDirectoryPath + "'.", e);
@@ -110,20 +132,222 @@ public class ConfigFileCreator {
     }
 
     /**
-     * Creates the config file with the specified content in the specified path.
+     * Creates the config file for the specified configuration in the specified path, and optionally the same
+     * configuration in JSON. The configuration is represented once and both files are serialized straight from that
+     * representation.
      *
-     * @param configurationYamlContent content of the config file to be written
-     * @param outputDirectoryPath      path to the directory that config file to be created
-     * @throws MojoExecutionException if an error occurred when creating the config file
+     * @param configuration       configuration to be written
+     * @param outputDirectoryPath path to the directory that config files to be created
+     * @param profile             profile of the configuration, or {@code null} for the base configuration; files of a
+     *                            profile are named with a {@code -<profile>} suffix
+     * @param createJson          whether to create the JSON config file too
+     * @throws MojoExecutionException if an error occurred when creating the config files
      */
-    public static void createConfigurationYaml(String configurationYamlContent, String outputDirectoryPath)
+    public static void createConfigurationFiles(Configuration configuration, String outputDirectoryPath,
+                                                String profile, boolean createJson) throws MojoExecutionException {
+        Node representation;
+        try {
+            representation = YamlSerializer.represent(configuration);
+        } catch (SerializationException e) {
+            throw new MojoExecutionException("Cannot serialize configuration " + configuration + ".", e);
+        }
+
+        String fileName = (profile == null) ? FILE_CONFIGURATION : (FILE_CONFIGURATION + "-" + profile);
+        createConfigurationFile(outputDirectoryPath, fileName + EXTENSION_YAML, configuration,
+                                writer -> writeGeneratedFile(writer, w -> YamlSerializer.serialize(representation, w)));
+        if (createJson) {
+            createConfigurationFile(outputDirectoryPath, fileName + EXTENSION_JSON, configuration,
+                                    writer -> JsonSerializer.serialize(representation, writer));
+        }
+    }
+
+    /**
+     * Returns the name of the YAML config file created for the specified profile.
+     *
+     * @param profile profile of the configuration, or {@code null} for the base configuration
+     * @return name of the YAML config file
+     */
+    public static String getConfigurationFileName(String profile) {
+        return ((profile == null) ? FILE_CONFIGURATION : (FILE_CONFIGURATION + "-" + profile)) + EXTENSION_YAML;
+    }
+
+    private static void createConfigurationFile(String outputDirectoryPath, String fileName,
+                                                Configuration configuration, ContentWriter contentWriter)
+            throws MojoExecutionException {
+        Path file = Paths.get(outputDirectoryPath, fileName);
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            contentWriter.write(writer);
+        } catch (IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot create '" + fileName + "' file in '" + outputDirectoryPath + "'.", e);
+        } catch (SerializationException e) {
+            throw new MojoExecutionException("Cannot serialize configuration " + configuration + ".", e);
+        }
+    }
+
+    /**
+     * Creates the security URIs file, which holds the compiled prefix tables of the URIs that do not require CSRF and
+     * XSS protection, in the specified path.
+     *
+     * @param uriPrefixTables     prefix tables keyed by the name of the URI list they were compiled from
+     * @param outputDirectoryPath path to the directory that security URIs file to be created
+     * @param profile             profile of the configuration the tables were compiled from, or {@code null} for the
+     *                            base configuration
+     * @throws MojoExecutionException if an error occurred when creating the security URIs file
+     */
+    public static void createSecurityUrisYaml(Map<String, UriPrefixTable> uriPrefixTables, String outputDirectoryPath,
+                                              String profile) throws MojoExecutionException {
+        Map<String, List<String>> prefixes = new LinkedHashMap<>();
+        uriPrefixTables.forEach((name, uriPrefixTable) -> prefixes.put(name, uriPrefixTable.getPrefixes()));
+        String fileName = ((profile == null) ? FILE_SECURITY_URIS : (FILE_SECURITY_URIS + "-" + profile)) +
+                EXTENSION_YAML;
+        try {
+            writeYamlFile(Paths.get(outputDirectoryPath, fileName), prefixes);
+        } catch (IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot create '" + fileName + "' file in '" + outputDirectoryPath + "'.", e);
+        } catch (SerializationException e) {
+            throw new MojoExecutionException("Cannot serialize security URIs " + prefixes + ".", e);
+        }
+    }
+
+    /**
+     * Creates the menus file, which holds the flattened menus of the app, in the specified path.
+     *
+     * @param menus               flattened menus, as returned by {@link MenuFlattener#flatten(List)}
+     * @param outputDirectoryPath path to the directory that menus file to be created
+     * @param profile             profile of the configuration the menus were taken from, or {@code null} for the base
+     *                            configuration
+     * @throws MojoExecutionException if an error occurred when creating the menus file
+     */
+    public static void createMenusYaml(Map<String, List<Map<String, Object>>> menus, String outputDirectoryPath,
+                                       String profile) throws MojoExecutionException {
+        String fileName = ((profile == null) ? FILE_MENUS : (FILE_MENUS + "-" + profile)) + EXTENSION_YAML;
+        try {
+            writeYamlFile(Paths.get(outputDirectoryPath, fileName), menus);
+        } catch (IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot create '" + fileName + "' file in '" + outputDirectoryPath + "'.", e);
+        } catch (SerializationException e) {
+            throw new MojoExecutionException("Cannot serialize menus " + menus + ".", e);
+        }
+    }
+
+    /**
+     * Creates the header block files for pages and static resources, which hold the specified response headers ready
+     * to be written to responses, in the specified path.
+     *
+     * @param responseHeaders     response headers of the app
+     * @param outputDirectoryPath path to the directory that header block files to be created
+     * @param profile             profile of the configuration the headers were taken from, or {@code null} for the
+     *                            base configuration
+     * @throws MojoExecutionException if a header value cannot be canonicalized or an error occurred when creating the
+     *                                header block files
+     */
+    public static void createResponseHeaderBlocks(AppConfig.ResponseHeaders responseHeaders,
+                                                  String outputDirectoryPath, String profile)
+            throws MojoExecutionException {
+        String suffix = ((profile == null) ? "" : ("-" + profile)) + EXTENSION_HEADERS;
+        createResponseHeaderBlock(responseHeaders.getPages(), outputDirectoryPath, FILE_HEADERS_PAGES + suffix);
+        createResponseHeaderBlock(responseHeaders.getStaticResources(), outputDirectoryPath,
+                                  FILE_HEADERS_STATIC_RESOURCES + suffix);
+    }
+
+    private static void createResponseHeaderBlock(Map<String, String> headers, String outputDirectoryPath,
+                                                  String fileName) throws MojoExecutionException {
+        String block;
+        try {
+            block = ResponseHeaderBlocks.toBlock(headers);
+        } catch (IllegalArgumentException e) {
+            throw new MojoExecutionException("Cannot create '" + fileName + "' file with invalid headers.", e);
+        }
+        try {
+            // Header values are validated to be ASCII, hence the block can be written to responses as it is.
+            writeFile(Paths.get(outputDirectoryPath, fileName), block.getBytes(StandardCharsets.US_ASCII));
+        } catch (IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot create '" + fileName + "' file in '" + outputDirectoryPath + "'.", e);
+        }
+    }
+
+    /**
+     * Creates the zones file for the specified resolved zones in the specified path.
+     *
+     * @param zones               ordered fragments keyed by zone names
+     * @param outputDirectoryPath path to the directory that zones file to be created
+     * @throws MojoExecutionException if an error occurred when creating the zones file
+     */
+    public static void createZonesYaml(Map<String, List<String>> zones, String outputDirectoryPath)
+            throws MojoExecutionException {
+        try {
+            writeYamlFile(Paths.get(outputDirectoryPath, FILE_ZONES), zones);
+        } catch (IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot create '" + FILE_ZONES + "' file in '" + outputDirectoryPath + "'.", e);
+        } catch (SerializationException e) {
+            throw new MojoExecutionException("Cannot serialize zones " + zones + ".", e);
+        }
+    }
+
+    /**
+     * Creates the "apis.yaml" file which lists the APIs of all the components in the app, in the specified path.
+     *
+     * @param apis                APIs of the app, as returned by {@link ApiRegistry#getApis()}
+     * @param outputDirectoryPath path to the directory that "apis.yaml" file to be created
+     * @throws MojoExecutionException if an error occurred when creating the "apis.yaml" file
+     */
+    public static void createApisYaml(List<Map<String, String>> apis, String outputDirectoryPath)
+            throws MojoExecutionException {
+        try {
+            writeYamlFile(Paths.get(outputDirectoryPath, FILE_APIS), apis);
+        } catch (IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot create '" + FILE_APIS + "' file in '" + outputDirectoryPath + "'.", e);
+        } catch (SerializationException e) {
+            throw new MojoExecutionException("Cannot serialize APIs " + apis + ".", e);
+        }
+    }
+
+    /**
+     * Creates the "routes.yaml" file which lists the pages of all the components in the app, in the specified path.
+     *
+     * @param routes              routes of the app in matching order, as returned by {@link RouteTable#getRoutes()}
+     * @param outputDirectoryPath path to the directory that "routes.yaml" file to be created
+     * @throws MojoExecutionException if an error occurred when creating the "routes.yaml" file
+     */
+    public static void createRoutesYaml(List<Map<String, String>> routes, String outputDirectoryPath)
             throws MojoExecutionException {
         try {
-            String content = applyTemplate(TEMPLATE_GENERATED_FILE, configurationYamlContent);
-            writeFile(Paths.get(outputDirectoryPath, FILE_CONFIGURATION_YAML), content);
+            writeYamlFile(Paths.get(outputDirectoryPath, FILE_ROUTES), routes);
         } catch (IOException e) {
             throw new MojoExecutionException(
-                    "Cannot create '" + FILE_CONFIGURATION_YAML + "' file in '" + outputDirectoryPath + "'.", e);
+                    "Cannot create '" + FILE_ROUTES + "' file in '" + outputDirectoryPath + "'.", e);
+        } catch (SerializationException e) {
+            throw new MojoExecutionException("Cannot serialize routes " + routes + ".", e);
+        }
+    }
+
+    /**
+     * Creates a {@code lang-<locale>.properties} file for each of the specified merged language bundles in the
+     * specified path.
+     *
+     * @param bundles             messages keyed by locales, as returned by {@link LangBundleMerger#getBundles()}
+     * @param outputDirectoryPath path to the directory that language bundle files to be created
+     * @throws MojoExecutionException if an error occurred when creating a language bundle file
+     */
+    public static void createLangBundles(Map<String, Map<String, String>> bundles, String outputDirectoryPath)
+            throws MojoExecutionException {
+        for (Map.Entry<String, Map<String, String>> entry : bundles.entrySet()) {
+            String fileName = String.format(FILE_LANG_BUNDLE, entry.getKey());
+            try (Writer writer = Files.newBufferedWriter(Paths.get(outputDirectoryPath, fileName),
+                                                         StandardCharsets.UTF_8)) {
+                writeGeneratedFile(writer, w -> PropertiesSerializer.serialize(entry.getValue(), w));
+            } catch (IOException e) {
+                throw new MojoExecutionException(
+                        "Cannot create '" + fileName + "' file in '" + outputDirectoryPath + "'.", e);
+            } catch (SerializationException e) {
+                throw new MojoExecutionException("Cannot serialize '" + entry.getKey() + "' language bundle.", e);
+            }
         }
     }
 
@@ -145,6 +369,59 @@ public class ConfigFileCreator {
         }
     }
 
+    /**
+     * Creates the binary dependency tree file with the specified content in the specified path.
+     *
+     * @param dependencyTreeContent content of the binary dependency tree file to be written
+     * @param outputDirectoryPath   path to the directory that binary dependency tree file to be created
+     * @throws MojoExecutionException if an error occurred when creating the binary dependency tree file
+     */
+    public static void createDependencyTreeBinary(byte[] dependencyTreeContent, String outputDirectoryPath)
+            throws MojoExecutionException {
+        try {
+            writeFile(Paths.get(outputDirectoryPath, FILE_DEPENDENCY_TREE_BINARY), dependencyTreeContent);
+        } catch (IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot create '" + FILE_DEPENDENCY_TREE_BINARY + "' file in '" + outputDirectoryPath + "'.", e);
+        }
+    }
+
+    /**
+     * Creates the app index file with the specified content in the specified path.
+     *
+     * @param appIndexContent     binary content of the app index file to be written
+     * @param outputDirectoryPath path to the directory that app index file to be created
+     * @throws MojoExecutionException if an error occurred when creating the app index file
+     */
+    public static void createAppIndex(byte[] appIndexContent, String outputDirectoryPath)
+            throws MojoExecutionException {
+        try {
+            writeFile(Paths.get(outputDirectoryPath, FILE_APP_INDEX), appIndexContent);
+        } catch (IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot create '" + FILE_APP_INDEX + "' file in '" + outputDirectoryPath + "'.", e);
+        }
+    }
+
+    /**
+     * Creates the dependency tree diff report file with the specified lines in the specified path.
+     *
+     * @param reportLines         lines of the dependency tree diff report
+     * @param outputDirectoryPath path to the directory where the report file should be created (will be created if not
+     *                            exists)
+     * @throws MojoExecutionException if an error occurred when creating the report file
+     */
+    public static void createDependencyTreeDiff(List<String> reportLines, String outputDirectoryPath)
+            throws MojoExecutionException {
+        try {
+            createDirectory(Paths.get(outputDirectoryPath));
+            writeFile(Paths.get(outputDirectoryPath, FILE_DEPENDENCY_TREE_DIFF), String.join("\n", reportLines));
+        } catch (IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot create '" + FILE_DEPENDENCY_TREE_DIFF + "' file in '" + outputDirectoryPath + "'.", e);
+        }
+    }
+
     /**
      * Creates the Carbon Feature property file in the specified path.
      *
@@ -199,25 +476,62 @@ public class ConfigFileCreator {
     }
 
     private static String readTemplate(String templateName) throws IOException {
+        String template = TEMPLATES.get(templateName);
+        if (template != null) {
+            return template;
+        }
         try (InputStream inputStream = ConfigFileCreator.class.getResourceAsStream("/templates/" + templateName)) {
             if (inputStream == null) {
                 throw new IOException("Cannot find template file '" + templateName + "' in classpath resources.");
             }
-            return IOUtils.toString(inputStream, StandardCharsets.UTF_8.name());
+            template = IOUtils.toString(inputStream, StandardCharsets.UTF_8.name());
         } catch (IOException e) {
             throw new IOException("Cannot read template file '" + templateName + "' from classpath resources.", e);
         }
+        TEMPLATES.putIfAbsent(templateName, template);
+        return template;
     }
 
     private static String applyTemplate(String templateName, String... variables) throws IOException {
         return String.format(readTemplate(templateName), variables);
     }
 
+    private static void writeYamlFile(Path file, Object data) throws IOException, SerializationException {
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeGeneratedFile(writer, w -> YamlSerializer.serialize(data, w));
+        } catch (IOException e) {
+            throw new IOException("Cannot write to file '" + file + "'.", e);
+        }
+    }
+
+    private static void writeGeneratedFile(Writer writer, ContentWriter contentWriter)
+            throws IOException, SerializationException {
+        // Generated file template wraps a single '%s' placeholder, so write the parts around it while streaming the
+        // content in between.
+        String template = readTemplate(TEMPLATE_GENERATED_FILE);
+        int placeholderIndex = template.indexOf(TEMPLATE_PLACEHOLDER);
+        writer.write(template.substring(0, placeholderIndex).replace("%%", "%"));
+        contentWriter.write(writer);
+        writer.write(template.substring(placeholderIndex + TEMPLATE_PLACEHOLDER.length()).replace("%%", "%"));
+    }
+
     private static void writeFile(Path file, String content) throws IOException {
+        writeFile(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeFile(Path file, byte[] content) throws IOException {
         try {
-            Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+            Files.write(file, content);
         } catch (IOException e) {
             throw new IOException("Cannot write to file '" + file + "'.", e);
         }
     }
+
+    /**
+     * Writes content of a generated file.
+     */
+    private interface ContentWriter {
+
+        void write(Writer writer) throws IOException, SerializationException;
+    }
 }
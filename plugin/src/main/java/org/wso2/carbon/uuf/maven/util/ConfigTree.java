@@ -0,0 +1,378 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Persistent, immutable representation of configuration trees (nested maps and lists).
+ * <p>
+ * Frozen maps and lists cannot be modified. Merging creates new maps and lists only along the paths that change and
+ * shares every other sub-tree with the merged trees, hence frozen trees can be cached and shared between threads and
+ * between merges without copying.
+ *
+ * @since 1.0.0
+ */
+public class ConfigTree {
+
+    private static final Map<String, Object> EMPTY_MAP = freeze(Collections.emptyMap());
+
+    /**
+     * Returns an empty frozen map.
+     *
+     * @return empty frozen map
+     */
+    public static Map<String, Object> emptyMap() {
+        return EMPTY_MAP;
+    }
+
+    /**
+     * Returns a frozen deep copy of the specified map. Frozen sub-trees are shared, not copied.
+     *
+     * @param map map to freeze
+     * @return frozen map, or {@code null} if the specified map is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> freeze(Map<?, ?> map) {
+        return (Map<String, Object>) freezeValue(map);
+    }
+
+    /**
+     * Checks whether the specified value is a frozen map or list.
+     *
+     * @param value value to check
+     * @return {@code true} if the value is a frozen map or list, otherwise {@code false}
+     */
+    public static boolean isFrozen(Object value) {
+        return (value instanceof FrozenMap) || (value instanceof FrozenList);
+    }
+
+    /**
+     * Merges the specified new map into the specified frozen map and returns the result as a new frozen map. Neither
+     * of the specified maps is modified.
+     * <p>
+     * A top level {@code null} value removes the key. Otherwise maps are merged recursively, new list items that are
+     * not in the old list are appended to it, and any other value replaces the old value.
+     *
+     * @param frozenMap frozen map to merge into
+     * @param newMap    map to merge
+     * @return merged frozen map
+     */
+    public static Map<String, Object> merge(Map<String, Object> frozenMap, Map<?, ?> newMap) {
+        if ((newMap == null) || newMap.isEmpty()) {
+            return frozenMap;
+        }
+        Map<Object, Object> merged = new LinkedHashMap<>(((FrozenMap) freezeValue(frozenMap)).delegate);
+        for (Map.Entry<?, ?> newEntry : newMap.entrySet()) {
+            if (newEntry.getValue() == null) {
+                merged.remove(newEntry.getKey());
+            } else if (newEntry.getValue() instanceof ReAdd) {
+                merged.remove(newEntry.getKey());
+                merged.put(newEntry.getKey(), freezeValue(((ReAdd) newEntry.getValue()).value));
+            } else {
+                merged.put(newEntry.getKey(), mergeValue(merged.get(newEntry.getKey()), newEntry.getValue()));
+            }
+        }
+        return freeze(new FrozenMap(merged));
+    }
+
+    /**
+     * Merges the specified new maps one after the other into the specified frozen map and returns the result as a new
+     * frozen map. The result is exactly the same as merging the new maps sequentially using
+     * {@link #merge(Map, Map)}, but adjacent new maps are combined pairwise in parallel first.
+     *
+     * @param frozenMap frozen map to merge into
+     * @param newMaps   maps to merge, in merging order
+     * @return merged frozen map
+     */
+    public static Map<String, Object> mergeAll(Map<String, Object> frozenMap, List<? extends Map<?, ?>> newMaps) {
+        if (newMaps.isEmpty()) {
+            return frozenMap;
+        }
+        return merge(frozenMap, ForkJoinPool.commonPool().invoke(new CombineTask(newMaps, 0, newMaps.size())));
+    }
+
+    private static Object mergeValue(Object oldValue, Object newValue) {
+        if ((oldValue instanceof Map) && (newValue instanceof Map)) {
+            return mergeMap((FrozenMap) oldValue, (Map<?, ?>) newValue);
+        } else if ((oldValue instanceof List) && (newValue instanceof List)) {
+            return mergeList((FrozenList) oldValue, (List<?>) newValue);
+        } else {
+            return freezeValue(newValue);
+        }
+    }
+
+    private static FrozenMap mergeMap(FrozenMap oldMap, Map<?, ?> newMap) {
+        Map<Object, Object> merged = new LinkedHashMap<>(oldMap.delegate);
+        for (Map.Entry<?, ?> newEntry : newMap.entrySet()) {
+            merged.put(newEntry.getKey(), mergeValue(merged.get(newEntry.getKey()), newEntry.getValue()));
+        }
+        return new FrozenMap(merged);
+    }
+
+    private static FrozenList mergeList(FrozenList oldList, List<?> newList) {
+        // Index the old items by value, keeping the first index of each so that the lookup matches List#indexOf.
+        Map<Object, Integer> oldIndexes = new HashMap<>();
+        for (int i = 0; i < oldList.items.length; i++) {
+            oldIndexes.putIfAbsent(oldList.items[i], i);
+        }
+        List<Object> merged = null;
+        for (Object newItem : newList) {
+            // An old item equal to the new item stays as it is, since merging equal items yields an equal item.
+            if (!oldIndexes.containsKey(newItem)) {
+                if (merged == null) {
+                    merged = new ArrayList<>(oldList);
+                }
+                Object frozenNewItem = freezeValue(newItem);
+                merged.add(frozenNewItem);
+                oldIndexes.put(frozenNewItem, merged.size() - 1);
+            }
+        }
+        return (merged == null) ? oldList : new FrozenList(merged.toArray());
+    }
+
+    /**
+     * Combines two adjacent maps to be merged into a single map, such that merging the combined map gives the same
+     * result as merging the older map and then the newer map. Values that must replace rather than merge into the
+     * value they end up being merged into are tagged with {@link Replace}, and top level keys that are removed and
+     * then added again are tagged with {@link ReAdd}.
+     */
+    private static FrozenMap combineMaps(FrozenMap olderMap, FrozenMap newerMap, boolean topLevel) {
+        Map<Object, Object> combined = new LinkedHashMap<>(olderMap.delegate);
+        for (Map.Entry<Object, Object> newEntry : newerMap.delegate.entrySet()) {
+            Object key = newEntry.getKey();
+            Object newValue = newEntry.getValue();
+            if (!combined.containsKey(key)) {
+                combined.put(key, newValue);
+                continue;
+            }
+
+            Object oldValue = combined.get(key);
+            if (topLevel && (newValue == null)) {
+                combined.put(key, null); // Removes the key whatever it was.
+            } else if (topLevel && ((newValue instanceof ReAdd) || (oldValue == null))) {
+                // A re-added key moves to the end, as it happens after all the older changes.
+                combined.remove(key);
+                combined.put(key, (newValue instanceof ReAdd) ? newValue : new ReAdd(freezeValue(newValue)));
+            } else if (topLevel && (oldValue instanceof ReAdd)) {
+                combined.put(key, new ReAdd(mergeValue(((ReAdd) oldValue).value, newValue)));
+            } else {
+                combined.put(key, combineValue(oldValue, newValue));
+            }
+        }
+        return new FrozenMap(combined);
+    }
+
+    private static Object combineValue(Object oldValue, Object newValue) {
+        if (newValue instanceof Replace) {
+            return newValue;
+        }
+        boolean oldValueReplaces = oldValue instanceof Replace;
+        Object plainOldValue = oldValueReplaces ? ((Replace) oldValue).value : oldValue;
+        Object combined;
+        if ((plainOldValue instanceof Map) && (newValue instanceof Map)) {
+            combined = combineMaps((FrozenMap) plainOldValue, (FrozenMap) newValue, false);
+        } else if ((plainOldValue instanceof List) && (newValue instanceof List)) {
+            combined = mergeList((FrozenList) plainOldValue, (List<?>) newValue);
+        } else {
+            // New value replaced the old value, hence it replaces whatever the old value was to be merged into.
+            return ((newValue instanceof Map) || (newValue instanceof List)) ? new Replace(newValue) : newValue;
+        }
+        return oldValueReplaces ? new Replace(combined) : combined;
+    }
+
+    private static Object freezeValue(Object value) {
+        if (value instanceof Replace) {
+            return freezeValue(((Replace) value).value);
+        } else if (value instanceof ReAdd) {
+            return freezeValue(((ReAdd) value).value);
+        } else if ((value instanceof FrozenMap) && ((FrozenMap) value).tagged) {
+            Map<Object, Object> frozenMap = new LinkedHashMap<>();
+            ((FrozenMap) value).delegate.forEach((key, item) -> frozenMap.put(key, freezeValue(item)));
+            return new FrozenMap(frozenMap);
+        } else if (isFrozen(value)) {
+            return value;
+        } else if (value instanceof Map) {
+            Map<Object, Object> frozenMap = new LinkedHashMap<>();
+            ((Map<?, ?>) value).forEach((key, item) -> frozenMap.put(key, freezeValue(item)));
+            return new FrozenMap(frozenMap);
+        } else if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            Object[] items = new Object[list.size()];
+            for (int i = 0; i < items.length; i++) {
+                items[i] = freezeValue(list.get(i));
+            }
+            return new FrozenList(items);
+        } else {
+            return value;
+        }
+    }
+
+    /**
+     * Immutable map of a configuration tree.
+     */
+    private static class FrozenMap extends AbstractMap<Object, Object> {
+
+        private final Map<Object, Object> delegate;
+        private final Set<Map.Entry<Object, Object>> entrySet;
+        private final boolean tagged;
+        private int hash;
+
+        FrozenMap(Map<Object, Object> delegate) {
+            this.delegate = delegate;
+            this.entrySet = Collections.unmodifiableMap(delegate).entrySet();
+            this.tagged = delegate.values().stream().anyMatch(
+                    value -> (value instanceof Replace) || (value instanceof ReAdd) ||
+                             ((value instanceof FrozenMap) && ((FrozenMap) value).tagged));
+        }
+
+        @Override
+        public Set<Map.Entry<Object, Object>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public int size() {
+            return delegate.size();
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return delegate.containsKey(key);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return delegate.get(key);
+        }
+
+        @Override
+        public int hashCode() {
+            if (hash == 0) {
+                hash = delegate.hashCode(); // Racy but idempotent, as the content never changes.
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * Immutable list of a configuration tree.
+     */
+    private static class FrozenList extends AbstractList<Object> implements RandomAccess {
+
+        private final Object[] items;
+        private int hash;
+
+        FrozenList(Object[] items) {
+            this.items = items;
+        }
+
+        @Override
+        public Object get(int index) {
+            return items[index];
+        }
+
+        @Override
+        public int size() {
+            return items.length;
+        }
+
+        @Override
+        public int hashCode() {
+            if (hash == 0) {
+                hash = super.hashCode(); // Racy but idempotent, as the content never changes.
+            }
+            return hash;
+        }
+    }
+
+    /**
+     * Tags a value that replaces the value it is merged into.
+     */
+    private static class Replace {
+
+        private final Object value;
+
+        Replace(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Tags the value of a top level key that was removed and then added again.
+     */
+    private static class ReAdd {
+
+        private final Object value;
+
+        ReAdd(Object value) {
+            this.value = value;
+        }
+    }
+
+    /**
+     * Combines a range of maps to be merged by splitting it in halves and combining the halves in parallel.
+     */
+    private static class CombineTask extends RecursiveTask<FrozenMap> {
+
+        private static final int SEQUENTIAL_THRESHOLD = 8;
+
+        private final List<? extends Map<?, ?>> maps;
+        private final int start;
+        private final int end;
+
+        CombineTask(List<? extends Map<?, ?>> maps, int start, int end) {
+            this.maps = maps;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected FrozenMap compute() {
+            if ((end - start) <= SEQUENTIAL_THRESHOLD) {
+                FrozenMap combined = toFrozenMap(maps.get(start));
+                for (int i = start + 1; i < end; i++) {
+                    combined = combineMaps(combined, toFrozenMap(maps.get(i)), true);
+                }
+                return combined;
+            }
+
+            int middle = (start + end) >>> 1;
+            CombineTask olderHalf = new CombineTask(maps, start, middle);
+            olderHalf.fork();
+            FrozenMap newerCombined = new CombineTask(maps, middle, end).compute();
+            return combineMaps(olderHalf.join(), newerCombined, true);
+        }
+
+        private static FrozenMap toFrozenMap(Map<?, ?> map) {
+            return (FrozenMap) freezeValue((map == null) ? Collections.emptyMap() : map);
+        }
+    }
+}
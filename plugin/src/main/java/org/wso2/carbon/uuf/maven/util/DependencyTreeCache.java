@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.model.Dependency;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.exception.SerializationException;
+import org.wso2.carbon.uuf.maven.parser.DependencyTreeBinaryParser;
+import org.wso2.carbon.uuf.maven.serializer.DependencyTreeBinarySerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Utility that caches a dependency tree on disk, keyed by a hash of the dependencies the tree was computed from.
+ *
+ * @since 1.0.0
+ */
+public class DependencyTreeCache {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    /**
+     * Computes the cache key for the dependency tree of the specified root artifact. The key covers the coordinates,
+     * scope and dependency trail of each of the specified dependencies, so any change to them changes the key. It also
+     * covers the order of the declared dependencies, which decides the order of the children in the dependency tree.
+     *
+     * @param rootArtifactId       artifact ID of the root of the dependency tree
+     * @param rootVersion          version of the root of the dependency tree
+     * @param declaredDependencies dependencies declared in the POM of the root artifact, in the declaration order
+     * @param dependencies         dependencies that the dependency tree is computed from
+     * @param salt                 additional values that affect the dependency tree (e.g. versions of plugins used)
+     * @return cache key
+     */
+    public static String computeKey(String rootArtifactId, String rootVersion, List<Dependency> declaredDependencies,
+                                    Collection<Artifact> dependencies, String... salt) {
+        StringBuilder keyMaterial = new StringBuilder();
+        keyMaterial.append(rootArtifactId).append(':').append(rootVersion).append('\n');
+        for (String value : salt) {
+            keyMaterial.append(value).append('\n');
+        }
+        // Resolved dependencies come in no particular order, hence the declaration order is recorded separately.
+        for (Dependency dependency : declaredDependencies) {
+            keyMaterial.append(dependency.getGroupId()).append(':').append(dependency.getArtifactId()).append('\n');
+        }
+        dependencies.stream()
+                .map(artifact -> artifact.getGroupId() + ":" + artifact.getArtifactId() + ":" + artifact.getType() +
+                        ":" + artifact.getClassifier() + ":" + artifact.getVersion() + ":" + artifact.getScope() +
+                        ":" + artifact.getDependencyTrail())
+                .sorted()
+                .forEach(coordinates -> keyMaterial.append(coordinates).append('\n'));
+
+        MessageDigest messageDigest;
+        try {
+            messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256.
+            throw new IllegalStateException("Cannot find '" + HASH_ALGORITHM + "' message digest algorithm.", e);
+        }
+        byte[] hash = messageDigest.digest(keyMaterial.toString().getBytes(StandardCharsets.UTF_8));
+        StringBuilder hexHash = new StringBuilder(hash.length * 2);
+        for (byte b : hash) {
+            hexHash.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return hexHash.toString();
+    }
+
+    /**
+     * Reads the dependency tree cached in the specified file if it was cached with the specified key.
+     *
+     * @param cacheFilePath path to the cache file
+     * @param key           expected cache key
+     * @return cached dependency tree, or {@code null} if there is no cache file, the cache file was written for a
+     * different key or the cache file cannot be read
+     */
+    public static DependencyNode read(String cacheFilePath, String key) {
+        Path cacheFile = Paths.get(cacheFilePath);
+        if (!Files.exists(cacheFile)) {
+            return null;
+        }
+
+        try (InputStream inputStream = Files.newInputStream(cacheFile);
+             DataInputStream dataInputStream = new DataInputStream(inputStream)) {
+            long remainingBytes = Files.size(cacheFile);
+            String cachedKey = dataInputStream.readUTF();
+            if (!key.equals(cachedKey)) {
+                return null;
+            }
+            // Key is written as a 2-byte length followed by its modified UTF-8 bytes, then the 4-byte content length.
+            remainingBytes -= 2 + cachedKey.getBytes(StandardCharsets.UTF_8).length + 4;
+            int contentLength = dataInputStream.readInt();
+            if ((contentLength < 0) || (contentLength > remainingBytes)) {
+                return null; // Truncated or corrupted cache file.
+            }
+            byte[] content = new byte[contentLength];
+            dataInputStream.readFully(content);
+            return DependencyTreeBinaryParser.parseBytes(content);
+        } catch (IOException | ParsingException | RuntimeException e) {
+            // A corrupted cache file is treated as a cache miss, it will be overwritten.
+            return null;
+        }
+    }
+
+    /**
+     * Writes the specified dependency tree to the specified cache file with the specified key.
+     *
+     * @param cacheFilePath path to the cache file
+     * @param key           cache key
+     * @param rootNode      root node of the dependency tree to cache
+     * @throws MojoExecutionException if an error occurred when writing the cache file
+     */
+    public static void write(String cacheFilePath, String key, DependencyNode rootNode) throws MojoExecutionException {
+        Path cacheFile = Paths.get(cacheFilePath);
+        try {
+            byte[] content = DependencyTreeBinarySerializer.serialize(rootNode);
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(content.length + 128);
+            try (DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+                dataOutputStream.writeUTF(key);
+                dataOutputStream.writeInt(content.length);
+                dataOutputStream.write(content);
+            }
+            Files.createDirectories(cacheFile.getParent());
+            Files.write(cacheFile, byteArrayOutputStream.toByteArray());
+        } catch (SerializationException | IOException e) {
+            throw new MojoExecutionException(
+                    "Cannot cache dependency tree where root node is " + rootNode + " in '" + cacheFile + "'.", e);
+        }
+    }
+}
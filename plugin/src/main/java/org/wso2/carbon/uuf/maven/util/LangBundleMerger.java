@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Merges the i18n language files (e.g. {@code lang/en-US.properties}) of the components of an app into a single
+ * bundle per locale. Components should be added in the dependency tree traversal order, so a component can override
+ * the messages of its dependencies.
+ *
+ * @since 1.0.0
+ */
+public class LangBundleMerger {
+
+    private static final String EXTENSION_PROPERTIES = ".properties";
+
+    private final Map<String, Map<String, Message>> bundles = new TreeMap<>();
+    private final List<String> collisions = new ArrayList<>();
+    private final Set<String> components = new HashSet<>();
+
+    /**
+     * Adds the language files in the specified directory of a component to the merged bundles. A component that
+     * several components depend on appears more than once in the dependency tree, but only its first occurrence is
+     * added, so that it does not undo the overrides of the components that depend on it.
+     *
+     * @param componentQualifiedName fully qualified name of the component
+     * @param langDirectory          the "lang" directory of the component
+     * @throws MojoExecutionException if a language file cannot be read
+     */
+    public void addLangFiles(String componentQualifiedName, Path langDirectory) throws MojoExecutionException {
+        if (!components.add(componentQualifiedName) || !Files.isDirectory(langDirectory)) {
+            return;
+        }
+
+        List<Path> langFiles;
+        try (Stream<Path> files = Files.list(langDirectory)) {
+            langFiles = files
+                    .filter(file -> file.getFileName().toString().endsWith(EXTENSION_PROPERTIES))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot list language files of '" + componentQualifiedName + "' in '" +
+                                             langDirectory + "'.", e);
+        }
+        for (Path langFile : langFiles) {
+            String fileName = langFile.getFileName().toString();
+            String locale = fileName.substring(0, fileName.length() - EXTENSION_PROPERTIES.length());
+            Properties properties = new Properties();
+            try {
+                properties.load(new StringReader(readLangFile(langFile)));
+            } catch (IOException e) {
+                throw new MojoExecutionException("Cannot read language file '" + langFile + "' of '" +
+                                                 componentQualifiedName + "'.", e);
+            }
+
+            Map<String, Message> bundle = bundles.computeIfAbsent(locale, key -> new TreeMap<>());
+            for (String key : properties.stringPropertyNames()) {
+                Message message = new Message(properties.getProperty(key), componentQualifiedName);
+                Message previousMessage = bundle.put(key, message);
+                if ((previousMessage != null) && !Objects.equals(previousMessage.value, message.value)) {
+                    collisions.add("'" + key + "' of '" + previousMessage.component + "' is overridden by '" +
+                                           componentQualifiedName + "' in '" + locale + "' locale");
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the specified language file as UTF-8, or as ISO-8859-1 (the encoding of standard {@code .properties}
+     * files) if it is not valid UTF-8. Both are supersets of ASCII, hence files with escaped characters are read
+     * correctly either way.
+     */
+    private static String readLangFile(Path langFile) throws IOException {
+        byte[] content = Files.readAllBytes(langFile);
+        try {
+            return StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPORT)
+                    .onUnmappableCharacter(CodingErrorAction.REPORT)
+                    .decode(ByteBuffer.wrap(content))
+                    .toString();
+        } catch (CharacterCodingException e) {
+            return new String(content, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * Returns the messages that were overridden with a different value by a later component.
+     *
+     * @return descriptions of the collisions, in the order they were found
+     */
+    public List<String> getCollisions() {
+        return collisions;
+    }
+
+    /**
+     * Returns the merged bundles.
+     *
+     * @return messages sorted by their keys, keyed by locales
+     */
+    public Map<String, Map<String, String>> getBundles() {
+        Map<String, Map<String, String>> mergedBundles = new TreeMap<>();
+        bundles.forEach((locale, bundle) -> {
+            Map<String, String> messages = new TreeMap<>();
+            bundle.forEach((key, message) -> messages.put(key, message.value));
+            mergedBundles.put(locale, messages);
+        });
+        return mergedBundles;
+    }
+
+    /**
+     * A message in a merged bundle, along with the component that it was taken from.
+     */
+    private static class Message {
+
+        private final String value;
+        private final String component;
+
+        Message(String value, String component) {
+            this.value = value;
+            this.component = component;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.wso2.carbon.uuf.maven.bean.AppConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Flattens the menus of an app into arrays of items in pre-order, where each item holds its depth and the index of
+ * its parent item, so navigation can be rendered with a linear scan instead of walking the menu tree.
+ *
+ * @since 1.0.0
+ */
+public class MenuFlattener {
+
+    private static final String KEY_TEXT = "text";
+    private static final String KEY_ICON = "icon";
+    private static final String KEY_HREF = "href";
+    private static final String KEY_DEPTH = "depth";
+    private static final String KEY_PARENT = "parent";
+    private static final Pattern EXTERNAL_LINK_PATTERN = Pattern.compile("([a-zA-Z][a-zA-Z0-9+.-]*:|//).*");
+
+    private final String contextPath;
+    private final Predicate<String> pageExists;
+    private final List<String> unresolvedLinks = new ArrayList<>();
+
+    /**
+     * Creates a new menu flattener.
+     *
+     * @param contextPath client-side context path of the app, which is prefixed to app relative links
+     * @param pageExists  predicate that checks whether a page serves a URI relative to the app
+     */
+    public MenuFlattener(String contextPath, Predicate<String> pageExists) {
+        this.contextPath = contextPath.endsWith("/") ? contextPath.substring(0, contextPath.length() - 1) :
+                contextPath;
+        this.pageExists = pageExists;
+    }
+
+    /**
+     * Flattens the specified menus. Links of the menu items starting with a '/' are relative to the app; they are
+     * resolved against the context path of the app and checked against its pages. Other links (e.g. {@code #},
+     * {@code https://example.com}) are kept as they are. Items without a link (e.g. parents of submenus) get no
+     * {@code href}.
+     *
+     * @param menus menus to flatten
+     * @return items of each menu in pre-order, as maps of {@code text}, {@code icon} (when set), {@code href}
+     * (when linked), {@code depth} (starting from {@code 0}) and {@code parent} (index of the parent item,
+     * {@code -1} for top level items), keyed by menu names
+     */
+    public Map<String, List<Map<String, Object>>> flatten(List<AppConfig.Menu> menus) {
+        Map<String, List<Map<String, Object>>> flattenedMenus = new LinkedHashMap<>();
+        for (AppConfig.Menu menu : menus) {
+            List<Map<String, Object>> items = new ArrayList<>();
+            addItems(menu.getName(), menu.getItems(), 0, -1, items);
+            flattenedMenus.put(menu.getName(), items);
+        }
+        return flattenedMenus;
+    }
+
+    /**
+     * Returns the app relative links that no page serves, found by the previous {@link #flatten(List)} calls.
+     *
+     * @return descriptions of the unresolved links
+     */
+    public List<String> getUnresolvedLinks() {
+        return unresolvedLinks;
+    }
+
+    private void addItems(String menuName, List<AppConfig.MenuItem> menuItems, int depth, int parentIndex,
+                          List<Map<String, Object>> items) {
+        if (menuItems == null) {
+            return;
+        }
+        for (AppConfig.MenuItem menuItem : menuItems) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put(KEY_TEXT, menuItem.getText());
+            if (menuItem.getIcon() != null) {
+                item.put(KEY_ICON, menuItem.getIcon());
+            }
+            if (menuItem.getLink() != null) {
+                item.put(KEY_HREF, resolve(menuName, menuItem));
+            }
+            item.put(KEY_DEPTH, depth);
+            item.put(KEY_PARENT, parentIndex);
+            items.add(item);
+            addItems(menuName, menuItem.getSubmenus(), depth + 1, items.size() - 1, items);
+        }
+    }
+
+    private String resolve(String menuName, AppConfig.MenuItem menuItem) {
+        String link = menuItem.getLink();
+        if (!link.startsWith("/") || EXTERNAL_LINK_PATTERN.matcher(link).matches()) {
+            return link;
+        }
+        int indexOfPathEnd = link.length();
+        for (char delimiter : new char[]{'?', '#'}) {
+            int index = link.indexOf(delimiter);
+            if ((index != -1) && (index < indexOfPathEnd)) {
+                indexOfPathEnd = index;
+            }
+        }
+        String uri = link.substring(0, indexOfPathEnd);
+        if (!pageExists.test(uri)) {
+            unresolvedLinks.add("'" + link + "' of '" + menuItem.getText() + "' item in '" + menuName + "' menu");
+        }
+        return contextPath + link;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Utility that renders configured HTTP response headers into header blocks, which the runtime can write to a
+ * response as they are.
+ *
+ * @since 1.0.0
+ */
+public class ResponseHeaderBlocks {
+
+    private static final String HEADER_CSP = "content-security-policy";
+    private static final String HEADER_CSP_REPORT_ONLY = "content-security-policy-report-only";
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final Pattern CSP_NONCE_OR_HASH_PATTERN = Pattern.compile("'(nonce|sha256|sha384|sha512)-");
+
+    /**
+     * Renders the specified headers into a header block, where each header is written as a {@code Name: value}
+     * line terminated by CRLF, in the iteration order of the map. Header values are {@link #canonicalize(String,
+     * String) canonicalized}.
+     *
+     * @param headers validated headers (see {@link org.wso2.carbon.uuf.maven.bean.AppConfig.ResponseHeaders})
+     * @return header block
+     * @throws IllegalArgumentException if a header value cannot be canonicalized
+     */
+    public static String toBlock(Map<String, String> headers) {
+        StringBuilder block = new StringBuilder();
+        headers.forEach((name, value) -> block.append(name).append(": ").append(canonicalize(name, value))
+                .append(LINE_SEPARATOR));
+        return block.toString();
+    }
+
+    /**
+     * Canonicalizes the specified header value. Leading and trailing whitespace is removed from all values, and
+     * Content Security Policies are rewritten with lower-case directive names and keywords, single spaces between
+     * sources, no duplicate sources and no empty directives.
+     *
+     * @param name  header name
+     * @param value header value
+     * @return canonical header value
+     * @throws IllegalArgumentException if a Content Security Policy has the same directive more than once
+     */
+    public static String canonicalize(String name, String value) {
+        String lowerCaseName = name.toLowerCase(Locale.ENGLISH);
+        if (HEADER_CSP.equals(lowerCaseName) || HEADER_CSP_REPORT_ONLY.equals(lowerCaseName)) {
+            return canonicalizeCsp(name, value);
+        }
+        return value.trim();
+    }
+
+    private static String canonicalizeCsp(String name, String value) {
+        Map<String, Set<String>> directives = new LinkedHashMap<>();
+        for (String directive : value.split(";")) {
+            String[] tokens = directive.trim().split("[ \t]+");
+            if (tokens[0].isEmpty()) {
+                continue;
+            }
+            String directiveName = tokens[0].toLowerCase(Locale.ENGLISH);
+            // Browsers ignore repeated directives, which is almost certainly not what was intended.
+            if (directives.containsKey(directiveName)) {
+                throw new IllegalArgumentException("Directive '" + directiveName + "' is repeated in '" + name +
+                                                   "' response header '" + value + "'.");
+            }
+            Set<String> sources = new LinkedHashSet<>();
+            for (int i = 1; i < tokens.length; i++) {
+                sources.add(canonicalizeCspSource(tokens[i]));
+            }
+            directives.put(directiveName, sources);
+        }
+
+        List<String> canonicalDirectives = new ArrayList<>(directives.size());
+        directives.forEach((directiveName, sources) -> {
+            if (sources.isEmpty()) {
+                canonicalDirectives.add(directiveName);
+            } else {
+                canonicalDirectives.add(directiveName + " " + String.join(" ", sources));
+            }
+        });
+        return String.join("; ", canonicalDirectives);
+    }
+
+    private static String canonicalizeCspSource(String source) {
+        if (source.startsWith("'")) {
+            String lowerCaseSource = source.toLowerCase(Locale.ENGLISH);
+            // Nonces and hashes are base64 encoded, hence case-sensitive.
+            if (CSP_NONCE_OR_HASH_PATTERN.matcher(lowerCaseSource).lookingAt()) {
+                int indexOfValue = source.indexOf('-') + 1;
+                return lowerCaseSource.substring(0, indexOfValue) + source.substring(indexOfValue);
+            }
+            return lowerCaseSource;
+        }
+        return source;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Route table of the pages of all the components of an app. Pages are discovered from the "pages" directory of each
+ * component, where the path of a page template relative to that directory (without the extension) is the URI of the
+ * page, an "index" template serves the URI of its directory and path segments such as {@code {id}} and {@code
+ * {+path}} are URI variables and wildcards respectively.
+ *
+ * @since 1.0.0
+ */
+public class RouteTable {
+
+    private static final String DIRECTORY_PAGES = "pages";
+    private static final String EXTENSION_TEMPLATE = ".hbs";
+    private static final String EXTENSION_SCRIPT = ".js";
+    private static final String PAGE_INDEX = "index";
+    private static final String KEY_URI = "uri";
+    private static final String KEY_COMPONENT = "component";
+    private static final String KEY_TEMPLATE = "template";
+    private static final String KEY_SCRIPT = "script";
+    /**
+     * Routes are matched segment by segment, where literal segments take precedence over variables, variables take
+     * precedence over wildcards and a shorter URI takes precedence over a longer one it is a prefix of.
+     */
+    private static final Comparator<Route> ROUTE_ORDER = (route1, route2) -> {
+        int commonLength = Math.min(route1.segments.length, route2.segments.length);
+        for (int i = 0; i < commonLength; i++) {
+            String segment1 = route1.segments[i];
+            String segment2 = route2.segments[i];
+            int result = Integer.compare(rankOf(segment1), rankOf(segment2));
+            if (result == 0) {
+                result = segment1.compareTo(segment2);
+            }
+            if (result != 0) {
+                return result;
+            }
+        }
+        int result = Integer.compare(route1.segments.length, route2.segments.length);
+        return (result == 0) ? route1.uri.compareTo(route2.uri) : result;
+    };
+
+    private final Path componentsDirectory;
+    private final List<Route> routes = new ArrayList<>();
+    private final Set<String> literalUris = new HashSet<>();
+    private final Set<String> components = new HashSet<>();
+
+    /**
+     * Creates a new route table for the components in the specified directory.
+     *
+     * @param componentsDirectory the "components" directory within the app
+     */
+    public RouteTable(Path componentsDirectory) {
+        this.componentsDirectory = componentsDirectory;
+    }
+
+    /**
+     * Adds the pages of the specified component to this route table. A component that several components depend on
+     * appears more than once in the dependency tree, but its pages are added only once.
+     *
+     * @param componentQualifiedName fully qualified name of the component
+     * @param componentDirectoryName name of the directory of the component within the "components" directory
+     * @param uriPrefix              prefix of the URIs of the pages of the component, e.g. {@code /store}; empty
+     *                               for pages served from the root of the app
+     * @throws MojoExecutionException if the "pages" directory of the component cannot be read or a page URI is
+     *                                invalid
+     */
+    public void addPages(String componentQualifiedName, String componentDirectoryName, String uriPrefix)
+            throws MojoExecutionException {
+        Path componentDirectory = componentsDirectory.resolve(componentDirectoryName);
+        Path pagesDirectory = componentDirectory.resolve(DIRECTORY_PAGES);
+        if (!components.add(componentQualifiedName) || !Files.isDirectory(pagesDirectory)) {
+            return;
+        }
+
+        List<Path> templates;
+        try (Stream<Path> files = Files.walk(pagesDirectory)) {
+            templates = files
+                    .filter(file -> file.getFileName().toString().endsWith(EXTENSION_TEMPLATE))
+                    .filter(Files::isRegularFile)
+                    .sorted()
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot list pages of '" + componentQualifiedName + "' in '" +
+                                             pagesDirectory + "'.", e);
+        }
+        for (Path template : templates) {
+            String templateFileName = template.getFileName().toString();
+            String pageName = templateFileName.substring(0, templateFileName.length() - EXTENSION_TEMPLATE.length());
+            Path script = template.resolveSibling(pageName + EXTENSION_SCRIPT);
+
+            Path pageDirectory = pagesDirectory.relativize(template).getParent();
+            String uri = uriPrefix + "/" + ((pageDirectory == null) ? "" : (toPath(pageDirectory) + "/")) +
+                    (PAGE_INDEX.equals(pageName) ? "" : pageName);
+            Route route = new Route(uri, componentQualifiedName, toPath(componentsDirectory.relativize(template)),
+                                    Files.isRegularFile(script) ? toPath(componentsDirectory.relativize(script)) :
+                                            null);
+            routes.add(route);
+            if (route.isLiteral()) {
+                literalUris.add(uri);
+            }
+        }
+    }
+
+    /**
+     * Returns the routes in this route table in matching order.
+     *
+     * @return routes as maps of {@code uri}, {@code component}, {@code template} and, for pages with a script, {@code
+     * script}
+     * @throws MojoExecutionException if a page URI is invalid or two pages match the same URIs
+     */
+    public List<Map<String, String>> getRoutes() throws MojoExecutionException {
+        List<String> errors = new ArrayList<>();
+        for (Route route : routes) {
+            for (int i = 0; i < route.segments.length - 1; i++) {
+                if (rankOf(route.segments[i]) == 2) {
+                    errors.add("wildcard of '" + route.uri + "' of '" + route.component + "' is not the last segment");
+                    break;
+                }
+            }
+        }
+
+        List<Route> sortedRoutes = new ArrayList<>(routes);
+        sortedRoutes.sort(ROUTE_ORDER);
+        // Routes that differ only by the names of their variables are duplicates too, and are adjacent once sorted.
+        for (int i = 1; i < sortedRoutes.size(); i++) {
+            Route previous = sortedRoutes.get(i - 1);
+            Route current = sortedRoutes.get(i);
+            if (previous.matchKey.equals(current.matchKey)) {
+                errors.add("'" + previous.uri + "' of '" + previous.component + "' duplicates '" + current.uri +
+                                   "' of '" + current.component + "'");
+            }
+        }
+        if (!errors.isEmpty()) {
+            throw new MojoExecutionException("Cannot create route table as " + String.join(", ", errors) + ".");
+        }
+
+        List<Map<String, String>> routeMaps = new ArrayList<>(sortedRoutes.size());
+        for (Route route : sortedRoutes) {
+            Map<String, String> routeMap = new LinkedHashMap<>();
+            routeMap.put(KEY_URI, route.uri);
+            routeMap.put(KEY_COMPONENT, route.component);
+            routeMap.put(KEY_TEMPLATE, route.template);
+            if (route.script != null) {
+                routeMap.put(KEY_SCRIPT, route.script);
+            }
+            routeMaps.add(routeMap);
+        }
+        return routeMaps;
+    }
+
+    /**
+     * Checks whether a page in this route table serves the specified URI.
+     *
+     * @param uri URI relative to the app, without a query or a fragment
+     * @return {@code true} if a page serves the URI, {@code false} otherwise
+     */
+    public boolean hasRoute(String uri) {
+        // Most URIs are served by pages without variables, which are looked up directly.
+        return literalUris.contains(uri) ||
+                routes.stream().anyMatch(route -> !route.isLiteral() && route.getPattern().matcher(uri).matches());
+    }
+
+    private static String toPath(Path relativePath) {
+        // Paths in the route table use '/' as the separator regardless of the platform.
+        return StreamSupport.stream(relativePath.spliterator(), false)
+                .map(Path::toString)
+                .collect(Collectors.joining("/"));
+    }
+
+    /**
+     * Returns the precedence rank of the specified URI segment.
+     *
+     * @param segment URI segment
+     * @return {@code 0} for a literal, {@code 1} for a variable and {@code 2} for a wildcard
+     */
+    private static int rankOf(String segment) {
+        if (segment.contains("{+")) {
+            return 2;
+        } else if (segment.contains("{")) {
+            return 1;
+        } else {
+            return 0;
+        }
+    }
+
+    /**
+     * A page in the route table.
+     */
+    private static class Route {
+
+        private final String uri;
+        private final String matchKey;
+        private final String[] segments;
+        private final String component;
+        private final String template;
+        private final String script;
+        private Pattern pattern;
+
+        Route(String uri, String component, String template, String script) {
+            this.uri = uri;
+            // Variable names do not affect matching, hence routes are compared without them.
+            this.matchKey = uri.replaceAll("\\{\\+[^}]*}", "{+}").replaceAll("\\{[^+}][^}]*}", "{}");
+            this.segments = matchKey.substring(1).split("/", -1);
+            this.component = component;
+            this.template = template;
+            this.script = script;
+        }
+
+        boolean isLiteral() {
+            return matchKey.indexOf('{') == -1;
+        }
+
+        Pattern getPattern() {
+            if (pattern == null) {
+                // A variable matches a part of a segment, while a wildcard matches the rest of the URI.
+                String regex = Pattern.quote(matchKey)
+                        .replace("{+}", "\\E.+\\Q")
+                        .replace("{}", "\\E[^/]+\\Q");
+                pattern = Pattern.compile(regex);
+            }
+            return pattern;
+        }
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.wso2.carbon.uuf.maven.ComponentMojo;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Finds the components of an app that are not reachable from the root component. A component is used when it is the
+ * root component, brings OSGi bundles, has pages, APIs, configurations, bindings, i18n files or public resources, or
+ * when a used component refers to one of its fragments or layouts in a binding or a template. All other components
+ * can be dropped from the app.
+ *
+ * @since 1.0.0
+ */
+public class UnusedComponentAnalyzer {
+
+    private static final String FILE_OSGI_IMPORTS = "osgi-imports";
+    private static final String DIRECTORY_PAGES = "pages";
+    private static final String DIRECTORY_LANG = "lang";
+    private static final String DIRECTORY_PUBLIC = "public";
+    private static final String DIRECTORY_FRAGMENTS = "fragments";
+    private static final String DIRECTORY_LAYOUTS = "layouts";
+    private static final String EXTENSION_TEMPLATE = ".hbs";
+    private static final String EXTENSION_SCRIPT = ".js";
+    /**
+     * Quoted names in templates and scripts, e.g. {@code {{fragment "org.example.store.product"}}}.
+     */
+    private static final Pattern QUOTED_NAME_PATTERN = Pattern.compile("[\"']([a-zA-Z0-9_$.-]+)[\"']");
+
+    private final Path componentsDirectory;
+    private final Map<String, Component> components = new LinkedHashMap<>();
+    private final Map<String, String> owners = new HashMap<>();
+
+    /**
+     * Creates a new analyzer for the components in the specified directory.
+     *
+     * @param componentsDirectory the "components" directory within the app
+     */
+    public UnusedComponentAnalyzer(Path componentsDirectory) {
+        this.componentsDirectory = componentsDirectory;
+    }
+
+    /**
+     * Adds the specified component to the analysis.
+     *
+     * @param componentQualifiedName fully qualified name of the component
+     * @param componentDirectoryName name of the directory of the component within the "components" directory
+     * @param componentConfig        configuration of the component
+     * @param root                   whether the component is the root component of the app
+     * @throws MojoExecutionException if a file of the component cannot be read
+     */
+    public void addComponent(String componentQualifiedName, String componentDirectoryName,
+                             ComponentConfig componentConfig, boolean root) throws MojoExecutionException {
+        Path componentDirectory = componentsDirectory.resolve(componentDirectoryName);
+        boolean used = root ||
+                Files.exists(componentDirectory.resolve(FILE_OSGI_IMPORTS)) ||
+                Files.exists(componentDirectory.resolve(ComponentMojo.FILE_BUNDLES)) ||
+                !listFiles(componentDirectory.resolve(DIRECTORY_PAGES)).isEmpty() ||
+                !listFiles(componentDirectory.resolve(DIRECTORY_LANG)).isEmpty() ||
+                hasPublicResources(componentDirectory) ||
+                !isEmpty(componentConfig.getApis()) ||
+                !isEmpty(componentConfig.getBindings()) ||
+                ((componentConfig.getConfig() != null) && !componentConfig.getConfig().isEmpty());
+        Component component = new Component(used);
+
+        for (Path fragmentDirectory : listDirectories(componentDirectory.resolve(DIRECTORY_FRAGMENTS))) {
+            owners.put(componentQualifiedName + "." + fragmentDirectory.getFileName(), componentQualifiedName);
+        }
+        for (Path layoutFile : listFiles(componentDirectory.resolve(DIRECTORY_LAYOUTS))) {
+            String fileName = layoutFile.getFileName().toString();
+            if (fileName.endsWith(EXTENSION_TEMPLATE)) {
+                String layoutName = fileName.substring(0, fileName.length() - EXTENSION_TEMPLATE.length());
+                owners.put(componentQualifiedName + "." + layoutName, componentQualifiedName);
+            }
+        }
+
+        if (componentConfig.getBindings() != null) {
+            for (ComponentConfig.Binding binding : componentConfig.getBindings()) {
+                for (String fragment : binding.getFragments()) {
+                    component.references.add(BindingResolver.qualify(fragment, componentQualifiedName));
+                }
+            }
+        }
+        for (String directoryName : new String[]{DIRECTORY_PAGES, DIRECTORY_FRAGMENTS, DIRECTORY_LAYOUTS}) {
+            for (Path file : listFiles(componentDirectory.resolve(directoryName))) {
+                String fileName = file.getFileName().toString();
+                if (fileName.endsWith(EXTENSION_TEMPLATE) || fileName.endsWith(EXTENSION_SCRIPT)) {
+                    Matcher matcher = QUOTED_NAME_PATTERN.matcher(readFile(file));
+                    while (matcher.find()) {
+                        component.references.add(matcher.group(1));
+                    }
+                }
+            }
+        }
+        components.put(componentQualifiedName, component);
+    }
+
+    /**
+     * Returns the components that are not reachable from the used components.
+     *
+     * @return fully qualified names of the unused components, in the order they were added
+     */
+    public List<String> getUnusedComponents() {
+        Set<String> usedComponents = new HashSet<>();
+        Deque<String> pendingComponents = new ArrayDeque<>();
+        components.forEach((componentQualifiedName, component) -> {
+            if (component.used) {
+                usedComponents.add(componentQualifiedName);
+                pendingComponents.push(componentQualifiedName);
+            }
+        });
+        while (!pendingComponents.isEmpty()) {
+            for (String reference : components.get(pendingComponents.pop()).references) {
+                String owner = owners.get(reference);
+                if ((owner != null) && usedComponents.add(owner)) {
+                    pendingComponents.push(owner);
+                }
+            }
+        }
+        return components.keySet().stream()
+                .filter(componentQualifiedName -> !usedComponents.contains(componentQualifiedName))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checks whether the specified component serves public resources, either of its own or of its fragments. These
+     * are requested by URI and cannot be traced from templates, hence such a component is always considered as used.
+     *
+     * @param componentDirectory directory of the component
+     * @return {@code true} if the component has public resources, otherwise {@code false}
+     * @throws MojoExecutionException if a directory of the component cannot be listed
+     */
+    private static boolean hasPublicResources(Path componentDirectory) throws MojoExecutionException {
+        if (!listFiles(componentDirectory.resolve(DIRECTORY_PUBLIC)).isEmpty()) {
+            return true;
+        }
+        for (Path fragmentDirectory : listDirectories(componentDirectory.resolve(DIRECTORY_FRAGMENTS))) {
+            if (!listFiles(fragmentDirectory.resolve(DIRECTORY_PUBLIC)).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<Path> listDirectories(Path directory) throws MojoExecutionException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> paths = Files.list(directory)) {
+            return paths.filter(Files::isDirectory).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot list directories in '" + directory + "'.", e);
+        }
+    }
+
+    private static List<Path> listFiles(Path directory) throws MojoExecutionException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot list files in '" + directory + "'.", e);
+        }
+    }
+
+    private static String readFile(Path file) throws MojoExecutionException {
+        try {
+            return new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Cannot read '" + file + "' file.", e);
+        }
+    }
+
+    private static boolean isEmpty(List<?> list) {
+        return (list == null) || list.isEmpty();
+    }
+
+    /**
+     * A component in the analysis.
+     */
+    private static class Component {
+
+        private final boolean used;
+        private final Set<String> references = new HashSet<>();
+
+        Component(boolean used) {
+            this.used = used;
+        }
+    }
+}
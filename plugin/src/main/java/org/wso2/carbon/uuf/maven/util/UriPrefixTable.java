@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * A sorted table of URI prefixes where none of the prefixes covers another, compiled from a list of URIs (e.g. the
+ * CSRF ignore URIs of an app) which matches a URI when one of them covers it. Prefixes are compared segment-wise,
+ * i.e. {@code /public} covers {@code /public} and {@code /public/css} but not {@code /publicAdmin}, while
+ * {@code /public/} covers only the URIs under it.
+ * <p>
+ * Prefixes are sorted by their base paths (the prefix with a trailing '/'), so a prefix comes right before all the
+ * URIs it covers. As the table is minimal, the only prefix that can cover a URI is the one with the greatest base
+ * path less than or equal to the base path of the URI. Hence a URI is matched with a binary search followed by a
+ * single prefix comparison, whatever the size of the list it was compiled from.
+ *
+ * @since 1.0.0
+ */
+public class UriPrefixTable {
+
+    /**
+     * Orders URIs by their base paths, and a URI without a trailing '/' before the same URI with it, as it covers
+     * more URIs.
+     */
+    private static final Comparator<String> URI_ORDER = Comparator.comparing(UriPrefixTable::toBasePath)
+            .thenComparing(uri -> uri.endsWith("/"));
+
+    private final List<String> prefixes;
+    private final List<String> basePaths;
+    private final List<String> issues;
+
+    /**
+     * Compiles the specified URIs into a prefix table.
+     *
+     * @param uris URIs to compile
+     */
+    public UriPrefixTable(List<String> uris) {
+        List<String> prefixes = new ArrayList<>();
+        List<String> basePaths = new ArrayList<>();
+        List<String> issues = new ArrayList<>();
+        TreeSet<String> sortedUris = new TreeSet<>(URI_ORDER);
+        for (String uri : uris) {
+            if (!sortedUris.add(uri)) {
+                issues.add("'" + uri + "' is duplicated");
+            }
+        }
+        // In the sorted order, a prefix comes before all the URIs it covers and every URI in between is covered by it
+        // too. Hence only the last kept prefix can cover the current URI.
+        String lastPrefix = null;
+        for (String uri : sortedUris) {
+            if ((lastPrefix != null) && covers(lastPrefix, uri)) {
+                issues.add("'" + uri + "' is redundant as it is covered by '" + lastPrefix + "'");
+            } else {
+                prefixes.add(uri);
+                basePaths.add(toBasePath(uri));
+                lastPrefix = uri;
+            }
+        }
+        this.prefixes = Collections.unmodifiableList(prefixes);
+        this.basePaths = basePaths;
+        this.issues = Collections.unmodifiableList(issues);
+    }
+
+    /**
+     * Returns the prefixes of this table.
+     *
+     * @return prefixes sorted by their base paths, none of which covers another
+     */
+    public List<String> getPrefixes() {
+        return prefixes;
+    }
+
+    /**
+     * Returns the duplicated and redundant URIs found when compiling this table.
+     *
+     * @return descriptions of the issues, sorted by the URIs
+     */
+    public List<String> getIssues() {
+        return issues;
+    }
+
+    /**
+     * Checks whether a prefix of this table covers the specified URI.
+     *
+     * @param uri URI to check
+     * @return {@code true} if the URI matches, {@code false} otherwise
+     */
+    public boolean matches(String uri) {
+        int index = Collections.binarySearch(basePaths, toBasePath(uri));
+        int floorIndex = (index >= 0) ? index : (-index - 2); // index of the greatest base path less than the URI's
+        return (floorIndex >= 0) && covers(prefixes.get(floorIndex), uri);
+    }
+
+    private static boolean covers(String prefix, String uri) {
+        return uri.equals(prefix) || uri.startsWith(toBasePath(prefix));
+    }
+
+    private static String toBasePath(String uri) {
+        return uri.endsWith("/") ? uri : (uri + "/");
+    }
+}
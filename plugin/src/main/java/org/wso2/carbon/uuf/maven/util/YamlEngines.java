@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+
+/**
+ * Provides pre-configured, reusable YAML engines.
+ * <p>
+ * A {@link Yaml} instance is not thread-safe, hence engines are confined to the thread that requested them. Since
+ * mojos of a parallel build run in different threads, each thread reuses its own engines without any locking.
+ *
+ * @since 1.0.0
+ */
+public class YamlEngines {
+
+    private static final ThreadLocal<Yaml> LOADER = ThreadLocal.withInitial(() -> new Yaml(new SafeConstructor()));
+    private static final ThreadLocal<DumperOptions> DUMPER_OPTIONS = ThreadLocal.withInitial(() -> {
+        DumperOptions dumperOptions = new DumperOptions();
+        dumperOptions.setAllowReadOnlyProperties(true);
+        dumperOptions.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
+        return dumperOptions;
+    });
+    private static final ThreadLocal<Yaml> DUMPER = ThreadLocal.withInitial(() -> new Yaml(DUMPER_OPTIONS.get()));
+
+    /**
+     * Returns the YAML engine of the current thread that loads documents into standard Java collections. Global tags
+     * (e.g. {@code !!java.io.File}) are rejected, so a document cannot instantiate arbitrary classes.
+     *
+     * @return YAML engine for untyped documents
+     */
+    public static Yaml loader() {
+        return LOADER.get();
+    }
+
+    /**
+     * Returns the YAML engine of the current thread that dumps beans and collections, including read-only properties.
+     *
+     * @return YAML engine for dumping
+     */
+    public static Yaml dumper() {
+        return DUMPER.get();
+    }
+
+    /**
+     * Returns the dumper options used by the {@link #dumper() dumping engine} of the current thread.
+     *
+     * @return dumper options
+     */
+    public static DumperOptions dumperOptions() {
+        return DUMPER_OPTIONS.get();
+    }
+}
@@ -22,6 +22,8 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * Test cases for app's config bean.
@@ -160,6 +162,31 @@ public class AppConfigTest {
                 () -> securityConfig.setXssIgnoreUris(Collections.singletonList(null)));
     }
 
+    @Test
+    public void testResponseHeadersValidations() {
+        AppConfig.ResponseHeaders responseHeaders = new AppConfig.ResponseHeaders();
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> responseHeaders.setPages(Collections.singletonMap("X Frame", "DENY")));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> responseHeaders.setPages(Collections.singletonMap("", "DENY")));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> responseHeaders.setPages(Collections.singletonMap("X-Frame-Options", null)));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> responseHeaders.setStaticResources(Collections.singletonMap("X-Header", "a\r\nSet-Cookie: b")));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> responseHeaders.setStaticResources(Collections.singletonMap("X-Header", "caf\u00e9")));
+        Map<String, String> repeatedHeaders = new LinkedHashMap<>();
+        repeatedHeaders.put("X-Frame-Options", "DENY");
+        repeatedHeaders.put("x-frame-options", "SAMEORIGIN");
+        Assert.assertThrows(IllegalArgumentException.class, () -> responseHeaders.setPages(repeatedHeaders));
+
+        responseHeaders.setPages(null);
+        Assert.assertEquals(responseHeaders.getPages(), Collections.emptyMap());
+        responseHeaders.setPages(Collections.singletonMap("X-Frame-Options", "DENY"));
+        responseHeaders.setStaticResources(Collections.singletonMap("Content-Security-Policy",
+                                                                    "default-src 'none';\tscript-src 'self'"));
+    }
+
     private static AppConfig createAppConfig() {
         return new AppConfig();
     }
@@ -22,6 +22,10 @@ import org.testng.Assert;
 import org.testng.annotations.Test;
 import org.wso2.carbon.uuf.maven.parser.YamlFileParserTest;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -73,4 +77,47 @@ public class ConfigurationTest {
         Assert.assertEquals(iosDevice.get("location"), "Anuradhapura");
         Assert.assertEquals(iosDevice.get("locked"), null);
     }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    public void testMergeLists() {
+        Configuration configuration = new Configuration();
+        configuration.merge(Collections.singletonMap("list", new ArrayList<>(Arrays.asList("a", "b", "a"))));
+        configuration.merge(Collections.singletonMap("list", Arrays.asList("c", "a", "c", "d")));
+        Assert.assertEquals(configuration.getOther().get("list"), Arrays.asList("a", "b", "a", "c", "d"));
+
+        List<Object> items = new ArrayList<>();
+        List<Object> newItems = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            items.add(new HashMap<>(Collections.singletonMap("id", i)));
+            newItems.add(new HashMap<>(Collections.singletonMap("id", i + 2500)));
+        }
+        configuration.merge(Collections.singletonMap("items", items));
+        configuration.merge(Collections.singletonMap("items", newItems));
+        List<Object> mergedItems = (List<Object>) configuration.getOther().get("items");
+        Assert.assertEquals(mergedItems.size(), 7500);
+        for (int i = 0; i < 7500; i++) {
+            Assert.assertEquals(mergedItems.get(i), Collections.singletonMap("id", i));
+        }
+    }
+
+    @Test
+    public void testMergeAllRepeatedMaps() {
+        // A component that several components depend on appears in the dependency tree more than once.
+        Map<String, Object> sharedConfig = new HashMap<>();
+        sharedConfig.put("title", "shared");
+        sharedConfig.put("users", Collections.singletonList("Kamal"));
+        Map<String, Object> storeConfig = new HashMap<>();
+        storeConfig.put("title", "store");
+        storeConfig.put("users", Collections.singletonList("Nimal"));
+        List<Map<?, ?>> componentConfigs = Arrays.asList(sharedConfig, storeConfig, sharedConfig);
+
+        Configuration sequentialConfiguration = new Configuration();
+        componentConfigs.forEach(sequentialConfiguration::merge);
+        Configuration configuration = new Configuration();
+        configuration.mergeAll(componentConfigs);
+
+        Assert.assertEquals(configuration.getOther(), sequentialConfiguration.getOther());
+        Assert.assertEquals(configuration.getOther().get("title"), "shared");
+    }
 }
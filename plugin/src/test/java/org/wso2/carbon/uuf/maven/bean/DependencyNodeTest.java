@@ -21,6 +21,13 @@ package org.wso2.carbon.uuf.maven.bean;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+
 /**
  * Test cases for dependency node bean.
  */
@@ -64,6 +71,14 @@ public class DependencyNodeTest {
                             "simple-auth");
     }
 
+    @Test
+    public void testFullyQualifiedName() {
+        Assert.assertEquals(new DependencyNode("org.wso2.carbon.uuf.foundation.ui", "1.0.0", null)
+                                    .getFullyQualifiedName(), "org.wso2.carbon.uuf.foundation.ui");
+        Assert.assertEquals(new DependencyNode("org.wso2.carbon.uuf.store.feature", "1.0.0", null)
+                                    .getFullyQualifiedName(), "org.wso2.carbon.uuf.store");
+    }
+
     @Test
     public void testParent() {
         DependencyNode root = new DependencyNode("root", "1.0.0", null);
@@ -91,4 +106,69 @@ public class DependencyNodeTest {
         Assert.assertEquals(child3.getParent(4), null);
         Assert.assertThrows(NullPointerException.class, () -> child3.getParent(5));
     }
+
+    @Test
+    public void testTraversalOrders() {
+        DependencyNode root = createTree();
+
+        List<String> traversed = new ArrayList<>();
+        root.traverse(node -> traversed.add(node.getArtifactId()));
+        Assert.assertEquals(traversed, Arrays.asList("c", "a", "d", "b", "root"));
+
+        List<String> postOrder = new ArrayList<>();
+        root.iterator(DependencyNode.TraversalOrder.POST_ORDER).forEachRemaining(n -> postOrder.add(n.getArtifactId()));
+        Assert.assertEquals(postOrder, traversed);
+
+        List<String> preOrder = new ArrayList<>();
+        root.iterator(DependencyNode.TraversalOrder.PRE_ORDER).forEachRemaining(n -> preOrder.add(n.getArtifactId()));
+        Assert.assertEquals(preOrder, Arrays.asList("root", "a", "c", "b", "d"));
+
+        Iterator<DependencyNode> iterator = new DependencyNode("single", "1.0.0", null).iterator();
+        Assert.assertEquals(iterator.next().getArtifactId(), "single");
+        Assert.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testStreams() {
+        DependencyNode root = createTree();
+
+        Assert.assertEquals(root.stream().map(DependencyNode::getArtifactId).collect(Collectors.toList()),
+                            Arrays.asList("c", "a", "d", "b", "root"));
+        Assert.assertEquals(root.parallelStream(DependencyNode.TraversalOrder.PRE_ORDER)
+                                    .map(DependencyNode::getArtifactId)
+                                    .collect(Collectors.toList()),
+                            Arrays.asList("root", "a", "c", "b", "d"));
+        Assert.assertTrue(root.stream().anyMatch(node -> "d".equals(node.getArtifactId())));
+        Assert.assertEquals(root.spliterator().getExactSizeIfKnown(), 5L);
+    }
+
+    @Test
+    public void testPrune() {
+        DependencyNode root = createTree();
+
+        DependencyNode prunedRoot = root.prune(node -> !"a".equals(node.getArtifactId()) &&
+                !"b".equals(node.getArtifactId()));
+        Assert.assertEquals(prunedRoot.stream().map(DependencyNode::getArtifactId).collect(Collectors.toList()),
+                            Arrays.asList("c", "d", "root"));
+        Assert.assertEquals(prunedRoot.getDependencies().get(0).getParent(1), prunedRoot);
+        Assert.assertEquals(root.stream().count(), 5L);
+
+        // Re-parented dependency that the ancestor already has is not added again.
+        DependencyNode a = root.getDependencies().get(0);
+        a.addDependency(new DependencyNode("d", "1.0.0", a));
+        prunedRoot = root.prune(node -> !"a".equals(node.getArtifactId()) && !"b".equals(node.getArtifactId()));
+        Assert.assertEquals(prunedRoot.stream().map(DependencyNode::getArtifactId).collect(Collectors.toList()),
+                            Arrays.asList("c", "d", "root"));
+    }
+
+    private static DependencyNode createTree() {
+        DependencyNode root = new DependencyNode("root", "1.0.0", null);
+        DependencyNode a = new DependencyNode("a", "1.0.0", root);
+        DependencyNode b = new DependencyNode("b", "1.0.0", root);
+        root.addDependency(a);
+        root.addDependency(b);
+        a.addDependency(new DependencyNode("c", "1.0.0", a));
+        b.addDependency(new DependencyNode("d", "1.0.0", b));
+        return root;
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.bean;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Test cases for dependency tree diff bean.
+ */
+public class DependencyTreeDiffTest {
+
+    @Test
+    public void testNoChanges() {
+        DependencyTreeDiff dependencyTreeDiff = DependencyTreeDiff.compute(createTree("1.0.0"), createTree("1.0.0"));
+        Assert.assertFalse(dependencyTreeDiff.hasChanges());
+        Assert.assertTrue(dependencyTreeDiff.getAddedComponents().isEmpty());
+        Assert.assertTrue(dependencyTreeDiff.getRemovedComponents().isEmpty());
+        Assert.assertTrue(dependencyTreeDiff.getVersionChanges().isEmpty());
+        Assert.assertEquals(dependencyTreeDiff.toReport().size(), 1);
+    }
+
+    @Test
+    public void testChanges() {
+        DependencyNode oldRootNode = createTree("1.0.0");
+        DependencyNode removedNode = new DependencyNode("removed", "1.0.0", oldRootNode);
+        oldRootNode.addDependency(removedNode);
+
+        DependencyNode newRootNode = createTree("2.0.0");
+        DependencyNode a = newRootNode.getDependencies().get(0);
+        DependencyNode addedNode = new DependencyNode("added", "1.0.0", a);
+        a.addDependency(addedNode);
+
+        DependencyTreeDiff dependencyTreeDiff = DependencyTreeDiff.compute(oldRootNode, newRootNode);
+        Assert.assertTrue(dependencyTreeDiff.hasChanges());
+        Assert.assertEquals(dependencyTreeDiff.getAddedComponents(), Collections.singletonList(addedNode));
+        Assert.assertEquals(dependencyTreeDiff.getAddedComponents().get(0).getPath(),
+                            Arrays.asList(newRootNode, a, addedNode));
+        Assert.assertEquals(dependencyTreeDiff.getRemovedComponents(), Collections.singletonList(removedNode));
+        Assert.assertEquals(dependencyTreeDiff.getVersionChanges(), Collections.singletonList(
+                new DependencyTreeDiff.VersionChange("d", new LinkedHashSet<>(Collections.singletonList("1.0.0")),
+                                                     new LinkedHashSet<>(Collections.singletonList("2.0.0")))));
+
+        List<String> report = dependencyTreeDiff.toReport();
+        Assert.assertEquals(report.size(), 4);
+        Assert.assertEquals(report.get(0), "+ {added, 1.0.0} via root > a > added");
+        Assert.assertEquals(report.get(1), "- {removed, 1.0.0} via root > removed");
+        Assert.assertEquals(report.get(2), "~ d [1.0.0] -> [2.0.0]");
+    }
+
+    private static DependencyNode createTree(String versionOfD) {
+        DependencyNode root = new DependencyNode("root", "1.0.0", null);
+        DependencyNode a = new DependencyNode("a", "1.0.0", root);
+        DependencyNode b = new DependencyNode("b", "1.0.0", root);
+        root.addDependency(a);
+        root.addDependency(b);
+        a.addDependency(new DependencyNode("c", "1.0.0", a));
+        b.addDependency(new DependencyNode("d", versionOfD, b));
+        return root;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.AppIndex;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.serializer.AppIndexSerializer;
+import org.wso2.carbon.uuf.maven.util.AppIndexBuilder;
+import org.wso2.carbon.uuf.maven.util.TestFiles;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Collectors;
+
+import static org.wso2.carbon.uuf.maven.util.TestFiles.writeFile;
+
+/**
+ * Test cases for app index parser.
+ */
+public class AppIndexParserTest {
+
+    private Path componentsDirectory;
+
+    @BeforeMethod
+    public void createComponentsDirectory() throws IOException {
+        componentsDirectory = Files.createTempDirectory("uuf-components");
+    }
+
+    @AfterMethod
+    public void deleteComponentsDirectory() throws IOException {
+        TestFiles.deleteDirectory(componentsDirectory);
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        writeFile(componentsDirectory, "root/pages/index.hbs", "{{title}}");
+        writeFile(componentsDirectory, "root/osgi-imports", "org.example.api;version=\"[1,2)\"");
+        writeFile(componentsDirectory, "store/pages/products/{id}.js", "function onGet() {}");
+        writeFile(componentsDirectory, "store/fragments/cart/cart.hbs", "<div/>");
+        writeFile(componentsDirectory, "store/fragments/cart/public/js/cart.js", "static");
+        writeFile(componentsDirectory, "store/layouts/main.hbs", "{{defineZone \"content\"}}");
+        writeFile(componentsDirectory, "store/component.yaml", "apis: []");
+
+        ComponentConfig storeConfig = new ComponentConfig();
+        ComponentConfig.Binding binding = new ComponentConfig.Binding();
+        binding.setZoneName("org.example.app.content");
+        binding.setFragments(Collections.singletonList("cart"));
+        storeConfig.setBindings(Collections.singletonList(binding));
+        ComponentConfig.API api = new ComponentConfig.API();
+        api.setClassName("org.example.Cart");
+        api.setUri("/cart");
+        storeConfig.setApis(Collections.singletonList(api));
+
+        DependencyNode rootNode = new DependencyNode("org.example.app.feature", "1.0.0", null);
+        rootNode.addDependency(new DependencyNode("org.example.store", "1.0.0", rootNode));
+        AppIndexBuilder appIndexBuilder = new AppIndexBuilder(componentsDirectory);
+        appIndexBuilder.addComponent("org.example.store", "store", "/store", storeConfig);
+        appIndexBuilder.addComponent("org.example.app", "root", "", new ComponentConfig());
+
+        AppIndex appIndex = AppIndexParser.parseBytes(AppIndexSerializer.serialize(appIndexBuilder.build(rootNode)));
+        Assert.assertEquals(appIndex.getDependencyTree(), rootNode);
+        Assert.assertEquals(appIndex.getDependencyTree().getDependencies(), rootNode.getDependencies());
+        Assert.assertEquals(appIndex.getComponents().size(), 2);
+
+        AppIndex.Component store = appIndex.getComponents().get(0);
+        Assert.assertEquals(store.getFullyQualifiedName(), "org.example.store");
+        Assert.assertEquals(store.getDirectoryName(), "store");
+        Assert.assertEquals(store.getContextPath(), "/store");
+        Assert.assertEquals(store.getBindings().get(0).getZoneName(), "org.example.app.content");
+        Assert.assertEquals(store.getBindings().get(0).getMode(), ComponentConfig.Binding.MODE_PREPEND);
+        Assert.assertEquals(store.getBindings().get(0).getFragments(), Collections.singletonList("cart"));
+        Assert.assertEquals(store.getApis().get(0).getClassName(), "org.example.Cart");
+        Assert.assertEquals(store.getApis().get(0).getUri(), "/cart");
+        Assert.assertNull(store.getOsgiImports());
+        Assert.assertEquals(store.getFiles().stream().map(AppIndex.IndexedFile::getPath).collect(Collectors.toList()),
+                            Arrays.asList("pages/products/{id}.js", "fragments/cart/cart.hbs", "layouts/main.hbs"));
+        Assert.assertEquals(store.getFiles().stream().map(AppIndex.IndexedFile::getKind).collect(Collectors.toList()),
+                            Arrays.asList(AppIndex.FileKind.PAGE, AppIndex.FileKind.FRAGMENT,
+                                          AppIndex.FileKind.LAYOUT));
+        Assert.assertEquals(new String(appIndex.getContent(store.getFiles().get(2)), StandardCharsets.UTF_8),
+                            "{{defineZone \"content\"}}");
+
+        AppIndex.Component app = appIndex.getComponents().get(1);
+        Assert.assertEquals(app.getContextPath(), "");
+        Assert.assertEquals(app.getOsgiImports(), "org.example.api;version=\"[1,2)\"");
+        Assert.assertEquals(new String(appIndex.getContent(app.getFiles().get(0)), StandardCharsets.UTF_8),
+                            "{{title}}");
+    }
+
+    @Test
+    public void testLongStrings() throws Exception {
+        StringBuilder osgiImports = new StringBuilder();
+        while (osgiImports.length() < 70000) {
+            // Non-ASCII characters take more than a byte each in UTF-8.
+            osgiImports.append("org.example.caf\u00e9.api").append(osgiImports.length()).append(";version=\"1\",");
+        }
+        DependencyNode rootNode = new DependencyNode("org.example.app.feature", "1.0.0", null);
+        AppIndex.Component component = new AppIndex.Component("org.example.app", "root", "/app",
+                                                              Collections.emptyList(), Collections.emptyList(),
+                                                              osgiImports.toString(), Collections.emptyList());
+
+        AppIndex appIndex = AppIndexParser.parseBytes(AppIndexSerializer.serialize(
+                new AppIndex(rootNode, Collections.singletonList(component), new byte[0])));
+        Assert.assertTrue(osgiImports.toString().getBytes(StandardCharsets.UTF_8).length > 65535);
+        Assert.assertEquals(appIndex.getComponents().get(0).getOsgiImports(), osgiImports.toString());
+    }
+
+    @Test
+    public void testInvalidContent() throws Exception {
+        DependencyNode rootNode = new DependencyNode("org.example.app.feature", "1.0.0", null);
+        byte[] content = AppIndexSerializer.serialize(new AppIndex(rootNode, Collections.emptyList(), new byte[0]));
+        Assert.assertThrows(ParsingException.class, () -> AppIndexParser.parseBytes(new byte[]{0x55, 0x55}));
+        Assert.assertThrows(ParsingException.class,
+                            () -> AppIndexParser.parseBytes(Arrays.copyOf(content, content.length - 1)));
+        content[5] = (byte) (AppIndexSerializer.FORMAT_VERSION + 1); // format version
+        Assert.assertThrows(ParsingException.class, () -> AppIndexParser.parseBytes(content));
+    }
+}
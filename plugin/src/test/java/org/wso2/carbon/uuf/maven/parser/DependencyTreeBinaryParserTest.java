@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.serializer.DependencyTreeBinarySerializer;
+
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Test cases for binary dependency tree parser.
+ */
+public class DependencyTreeBinaryParserTest {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        DependencyNode rootNode = DependencyTreeParser.parseLines(DependencyTreeParserTest.getDependencyTreeLines());
+        byte[] content = DependencyTreeBinarySerializer.serialize(rootNode);
+        DependencyNode parsedRootNode = DependencyTreeBinaryParser.parseBytes(content);
+
+        Iterator<DependencyNode> expected = rootNode.iterator(DependencyNode.TraversalOrder.PRE_ORDER);
+        Iterator<DependencyNode> actual = parsedRootNode.iterator(DependencyNode.TraversalOrder.PRE_ORDER);
+        while (expected.hasNext()) {
+            DependencyNode expectedNode = expected.next();
+            DependencyNode actualNode = actual.next();
+            Assert.assertEquals(actualNode, expectedNode);
+            Assert.assertEquals(actualNode.getDependencies(), expectedNode.getDependencies());
+        }
+        Assert.assertFalse(actual.hasNext());
+        Assert.assertEquals(parsedRootNode.getDependencies().get(20).getDependencies().get(0).getParent(2),
+                            parsedRootNode);
+    }
+
+    @Test
+    public void testSingleNode() throws Exception {
+        DependencyNode rootNode = new DependencyNode("org.wso2.carbon.uuf.sample.pets-store.feature", "1.0.0", null);
+        DependencyNode parsedRootNode =
+                DependencyTreeBinaryParser.parseBytes(DependencyTreeBinarySerializer.serialize(rootNode));
+        Assert.assertEquals(parsedRootNode, rootNode);
+        Assert.assertTrue(parsedRootNode.getDependencies().isEmpty());
+    }
+
+    @Test
+    public void testInvalidContent() throws Exception {
+        Assert.assertThrows(ParsingException.class, () -> DependencyTreeBinaryParser.parseBytes(new byte[0]));
+        Assert.assertThrows(ParsingException.class,
+                            () -> DependencyTreeBinaryParser.parseBytes(new byte[]{1, 2, 3, 4}));
+
+        DependencyNode rootNode = new DependencyNode("root", "1.0.0", null);
+        rootNode.addDependency(new DependencyNode("child", "1.0.0", rootNode));
+        byte[] content = DependencyTreeBinarySerializer.serialize(rootNode);
+        byte[] truncatedContent = Arrays.copyOf(content, content.length - 2);
+        Assert.assertThrows(ParsingException.class, () -> DependencyTreeBinaryParser.parseBytes(truncatedContent));
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.serializer.DependencyTreeSerializer;
+
+import java.util.Iterator;
+
+/**
+ * Test cases for dependency tree YAML parser.
+ */
+public class DependencyTreeYamlParserTest {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        DependencyNode rootNode = DependencyTreeParser.parseLines(DependencyTreeParserTest.getDependencyTreeLines());
+        DependencyNode parsedRootNode = DependencyTreeYamlParser.parseString(
+                DependencyTreeSerializer.serialize(rootNode));
+
+        Iterator<DependencyNode> expected = rootNode.iterator(DependencyNode.TraversalOrder.PRE_ORDER);
+        Iterator<DependencyNode> actual = parsedRootNode.iterator(DependencyNode.TraversalOrder.PRE_ORDER);
+        while (expected.hasNext()) {
+            DependencyNode expectedNode = expected.next();
+            DependencyNode actualNode = actual.next();
+            Assert.assertEquals(actualNode, expectedNode);
+            Assert.assertEquals(actualNode.getDependencies(), expectedNode.getDependencies());
+        }
+        Assert.assertFalse(actual.hasNext());
+    }
+
+    @Test
+    public void testInvalidContent() {
+        Assert.assertThrows(ParsingException.class, () -> DependencyTreeYamlParser.parseString("- a\n- b"));
+        Assert.assertThrows(ParsingException.class, () -> DependencyTreeYamlParser.parseString("artifactId: a"));
+        Assert.assertThrows(ParsingException.class,
+                            () -> DependencyTreeYamlParser.parseString("artifactId: a\nversion: 1\ndependencies: x"));
+        Assert.assertThrows(ParsingException.class, () -> DependencyTreeYamlParser.parseString(
+                "!!java.util.HashMap {artifactId: a, version: '1'}"));
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Test cases for YAML composer with resource limits.
+ */
+public class LimitedComposerTest {
+
+    private static final Path FILE = Paths.get("component.yaml");
+
+    @Test
+    public void testWithinLimits() throws Exception {
+        Node document = compose("a: &a {b: [1, 2]}\nc: *a\nd: *a\n", new YamlLimits());
+        Assert.assertTrue(document instanceof MappingNode);
+        Assert.assertEquals(((MappingNode) document).getValue().size(), 3);
+        Assert.assertNull(compose("# comments only", new YamlLimits()));
+    }
+
+    @Test
+    public void testAliasExpansion() {
+        StringBuilder laughs = new StringBuilder("l0: &l0 [lol, lol, lol, lol, lol, lol, lol, lol, lol, lol]\n");
+        for (int i = 1; i < 10; i++) {
+            laughs.append("l").append(i).append(": &l").append(i).append(" [");
+            for (int j = 0; j < 10; j++) {
+                laughs.append((j == 0) ? "" : ", ").append("*l").append(i - 1);
+            }
+            laughs.append("]\n");
+        }
+        assertRejected(laughs.toString(), new YamlLimits(), "maxAliasExpansion");
+
+        YamlLimits limits = new YamlLimits();
+        limits.setMaxAliasExpansion(5);
+        assertRejected("a: &a {b: [1, 2]}\nc: *a\nd: *a\n", limits, "maxAliasExpansion");
+    }
+
+    @Test
+    public void testNestingDepth() {
+        YamlLimits limits = new YamlLimits();
+        limits.setMaxDepth(3);
+        assertRejected("a: {b: {c: d}}", limits, "maxDepth");
+        // An alias expands to the whole anchored node, hence counts towards the depth too.
+        assertRejected("a: &a {b: c}\nd: [*a]", limits, "maxDepth");
+    }
+
+    @Test
+    public void testCollectionSize() {
+        YamlLimits limits = new YamlLimits();
+        limits.setMaxCollectionSize(2);
+        assertRejected("a: [1, 2, 3]", limits, "maxCollectionSize");
+        assertRejected("a: 1\nb: 2\nc: 3", limits, "maxCollectionSize");
+    }
+
+    @Test
+    public void testFileSize() {
+        YamlLimits limits = new YamlLimits();
+        limits.setMaxFileSize(8);
+        assertRejected("key: a long value", limits, "maxFileSize");
+    }
+
+    @Test
+    public void testInvalidAliases() {
+        assertRejected("a: *undefined", new YamlLimits(), "undefined alias");
+        assertRejected("a: &a [*a]", new YamlLimits(), "recursive alias");
+    }
+
+    @Test
+    public void testLimitsInParsers() {
+        YamlLimits limits = new YamlLimits();
+        limits.setMaxDepth(2);
+        byte[] content = "config: {a: {b: c}}".getBytes(StandardCharsets.UTF_8);
+        Assert.assertThrows(ParsingException.class,
+                            () -> YamlSectionParser.parseContent(FILE, content, limits, "config"));
+        Assert.assertThrows(ParsingException.class,
+                            () -> YamlSectionParser.parseContent(FILE, content, limits, "other"));
+        Assert.assertThrows(ParsingException.class,
+                            () -> YamlFileParser.parseContent(FILE, content, Object.class, new YamlLimits()));
+    }
+
+    private static Node compose(String content, YamlLimits limits) throws ParsingException {
+        return LimitedComposer.composeDocument(FILE, content.getBytes(StandardCharsets.UTF_8), limits);
+    }
+
+    private static void assertRejected(String content, YamlLimits limits, String expectedMessagePart) {
+        try {
+            compose(content, limits);
+            Assert.fail("Content should be rejected for '" + expectedMessagePart + "'.");
+        } catch (ParsingException e) {
+            Assert.assertTrue(e.getMessage().contains(expectedMessagePart), e.getMessage());
+        }
+    }
+}
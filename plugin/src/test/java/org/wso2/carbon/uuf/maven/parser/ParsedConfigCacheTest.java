@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+
+/**
+ * Test cases for parsed configuration cache.
+ */
+public class ParsedConfigCacheTest {
+
+    @Test
+    public void testDefensiveCopies() throws Exception {
+        Path file = createFile("config:\n  menu:\n    items: [a, b]\n");
+        ComponentConfig first = ParsedConfigCache.parse(file.toString(), ComponentConfig.class);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> first.getConfig().put("menu", "modified"));
+        first.setConfig(null);
+
+        ComponentConfig second = ParsedConfigCache.parse(file.toString(), ComponentConfig.class);
+        Assert.assertNotSame(second, first);
+        Assert.assertEquals(((Map<?, ?>) second.getConfig().get("menu")).get("items").toString(), "[a, b]");
+        Assert.assertSame(ParsedConfigCache.parse(file.toString(), ComponentConfig.class).getConfig(),
+                          second.getConfig());
+    }
+
+    @Test
+    public void testModifiedFile() throws Exception {
+        Path file = createFile("config:\n  key: value1\n");
+        Assert.assertEquals(ParsedConfigCache.parse(file.toString(), ComponentConfig.class).getConfig().get("key"),
+                            "value1");
+
+        Files.write(file, "config:\n  key: value22\n".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 2000));
+        Assert.assertEquals(ParsedConfigCache.parse(file.toString(), ComponentConfig.class).getConfig().get("key"),
+                            "value22");
+    }
+
+    @Test
+    public void testSameContentInDifferentFiles() throws Exception {
+        ComponentConfig first = ParsedConfigCache.parse(createFile("config:\n  key: value\n").toString(),
+                                                        ComponentConfig.class);
+        ComponentConfig second = ParsedConfigCache.parse(createFile("config:\n  key: value\n").toString(),
+                                                         ComponentConfig.class);
+        Assert.assertEquals(second.getConfig(), first.getConfig());
+    }
+
+    @Test
+    public void testInvalidFiles() throws Exception {
+        Assert.assertThrows(ParsingException.class,
+                            () -> ParsedConfigCache.parse("non-existing.yaml", ComponentConfig.class));
+        Path emptyFile = createFile("# comments only\n");
+        Assert.assertThrows(ParsingException.class,
+                            () -> ParsedConfigCache.parse(emptyFile.toString(), ComponentConfig.class));
+    }
+
+    private static Path createFile(String content) throws Exception {
+        Path file = Files.createTempFile("component", ".yaml");
+        file.toFile().deleteOnExit();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.AppConfig;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.bean.ThemeConfig;
+import org.wso2.carbon.uuf.maven.bean.mojo.BundleListConfig;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.util.YamlEngines;
+import org.yaml.snakeyaml.error.YAMLException;
+
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+/**
+ * Test cases for YAML bean binder.
+ */
+public class YamlBeanBinderTest {
+
+    @Test
+    public void testAppConfig() throws Exception {
+        AppConfig appConfig = bind("contextPath: /pets\n" +
+                                           "sessionManagement:\n" +
+                                           "  factoryClassName: org.example.Factory\n" +
+                                           "  timeout: 0x258\n" +
+                                           "errorPages:\n" +
+                                           "  404: /error/404\n" +
+                                           "menus:\n" +
+                                           "  - name: main\n" +
+                                           "    items:\n" +
+                                           "      - text: Home\n" +
+                                           "        submenus:\n" +
+                                           "          - {text: Pets, link: pets}\n" +
+                                           "security:\n" +
+                                           "  csrfIgnoreUris: [/a]\n" +
+                                           "  responseHeaders:\n" +
+                                           "    pages: {X-Frame-Options: DENY}\n",
+                                   AppConfig.class);
+
+        Assert.assertEquals(appConfig.getContextPath(), "/pets");
+        Assert.assertEquals(appConfig.getSessionManagement().getFactoryClassName(), "org.example.Factory");
+        Assert.assertEquals(appConfig.getSessionManagement().getTimeout(), 600L);
+        Assert.assertEquals(appConfig.getErrorPages(), Collections.singletonMap("404", "/error/404"));
+        AppConfig.MenuItem homeItem = appConfig.getMenus().get(0).getItems().get(0);
+        Assert.assertEquals(homeItem.getText(), "Home");
+        Assert.assertEquals(homeItem.getSubmenus().get(0).getLink(), "pets");
+        Assert.assertEquals(appConfig.getSecurity().getCsrfIgnoreUris(), Collections.singletonList("/a"));
+        Assert.assertEquals(appConfig.getSecurity().getResponseHeaders().getPages(),
+                            Collections.singletonMap("X-Frame-Options", "DENY"));
+    }
+
+    @Test
+    public void testComponentConfig() throws Exception {
+        ComponentConfig componentConfig = bind("apis:\n" +
+                                                       "  - {className: org.example.Api, uri: /api}\n" +
+                                                       "bindings:\n" +
+                                                       "  - {zoneName: a.b, mode: append, fragments: [c.d]}\n" +
+                                                       "config:\n" +
+                                                       "  defaults: &defaults {size: 10}\n" +
+                                                       "  1: {<<: *defaults, users: [Amal]}\n",
+                                               ComponentConfig.class);
+
+        Assert.assertEquals(componentConfig.getApis().get(0).getUri(), "/api");
+        Assert.assertEquals(componentConfig.getBindings().get(0).getMode(), ComponentConfig.Binding.MODE_APPEND);
+        Assert.assertEquals(componentConfig.getBindings().get(0).getFragments(), Collections.singletonList("c.d"));
+        Assert.assertEquals(componentConfig.getConfig().keySet(), new HashSet<>(Arrays.asList("defaults", "1")));
+        Assert.assertEquals(componentConfig.getConfig().get("1"),
+                            YamlEngines.loader().load("{size: 10, users: [Amal]}"));
+    }
+
+    @Test
+    public void testThemeAndBundleListConfigs() throws Exception {
+        ThemeConfig themeConfig = bind("css: [a.css]\nheadJs: [b.js]\njs: [c.js]", ThemeConfig.class);
+        Assert.assertEquals(themeConfig.getCss(), Collections.singletonList("a.css"));
+        Assert.assertEquals(themeConfig.getHeadJs(), Collections.singletonList("b.js"));
+        Assert.assertEquals(themeConfig.getJs(), Collections.singletonList("c.js"));
+
+        BundleListConfig bundleListConfig = bind("bundles:\n  - {symbolicName: org.example, version: 1.0}",
+                                                 BundleListConfig.class);
+        Assert.assertEquals(bundleListConfig.getBundles().get(0).getSymbolicName(), "org.example");
+        Assert.assertEquals(bundleListConfig.getBundles().get(0).getVersion(), "1.0");
+    }
+
+    @Test
+    public void testInvalidDocuments() {
+        Assert.assertThrows(ParsingException.class, () -> bind("unknown: value", AppConfig.class));
+        Assert.assertThrows(ParsingException.class, () -> bind("- css", ThemeConfig.class));
+        Assert.assertThrows(ParsingException.class, () -> bind("css: a.css", ThemeConfig.class));
+        Assert.assertThrows(ParsingException.class, () -> bind("sessionManagement: {timeout: ten}", AppConfig.class));
+        Assert.assertThrows(YAMLException.class, () -> bind("config: !!java.io.File {}", ComponentConfig.class));
+    }
+
+    @Test
+    public void testMissingRequiredProperties() {
+        try {
+            bind("bindings:\n  - {mode: append, fragments: [c.d]}", ComponentConfig.class);
+            Assert.fail("A binding without a zone name should be rejected.");
+        } catch (ParsingException e) {
+            Assert.assertEquals(e.getMessage(), "Property 'zoneName' of 'Binding' is missing at line 2, column 5.");
+        }
+        Assert.assertThrows(ParsingException.class,
+                            () -> bind("bindings:\n  - {zoneName: a.b}", ComponentConfig.class));
+    }
+
+    @Test
+    public void testValidationMessages() {
+        try {
+            bind("errorPages: {700: /error}", AppConfig.class);
+            Assert.fail("An error page with an invalid HTTP status code should be rejected.");
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals(e.getMessage(), "HTTP status code of an error page entry in the app's config must " +
+                    "be between 100 and 599. Instead found '700' for URI '/error'.");
+        } catch (ParsingException e) {
+            Assert.fail("Validation errors should be reported by the setters.", e);
+        }
+    }
+
+    private static <T> T bind(String content, Class<T> type) throws ParsingException {
+        return YamlBeanBinder.bind(YamlEngines.loader().compose(new StringReader(content)), type);
+    }
+}
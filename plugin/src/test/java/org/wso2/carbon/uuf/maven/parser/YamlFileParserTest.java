@@ -25,10 +25,23 @@ import org.wso2.carbon.uuf.maven.bean.AppConfig;
 import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
 import org.wso2.carbon.uuf.maven.bean.ThemeConfig;
 import org.wso2.carbon.uuf.maven.bean.mojo.BundleListConfig;
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
 import org.wso2.carbon.uuf.maven.exception.ParsingException;
+import org.wso2.carbon.uuf.maven.util.TestFiles;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Test cases for YAML configuration file parser.
@@ -43,17 +56,17 @@ public class YamlFileParserTest {
     }
 
     @Test
-    public void testAppConfiguration() {
+    public void testAppConfiguration() throws Exception {
         YamlFileParser.parseString(readResourceFile("/app.yaml"), AppConfig.class);
     }
 
     @Test
-    public ComponentConfig testComponentConfiguration() {
+    public ComponentConfig testComponentConfiguration() throws Exception {
         return YamlFileParser.parseString(readResourceFile("/component.yaml"), ComponentConfig.class);
     }
 
     @Test
-    public ComponentConfig testRootComponentConfiguration() {
+    public ComponentConfig testRootComponentConfiguration() throws Exception {
         return YamlFileParser.parseString(readResourceFile("/root-component.yaml"), ComponentConfig.class);
     }
 
@@ -67,6 +80,84 @@ public class YamlFileParserTest {
         YamlFileParser.parseString(readResourceFile("/theme.yaml"), ThemeConfig.class);
     }
 
+    @Test
+    public void testParsingInParallel() throws Exception {
+        String content = readResourceFile("/component.yaml");
+        ComponentConfig expected = YamlFileParser.parseString(content, ComponentConfig.class);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ComponentConfig>> futures = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                futures.add(executorService.submit(() -> YamlFileParser.parseString(content, ComponentConfig.class)));
+            }
+            for (Future<ComponentConfig> future : futures) {
+                Assert.assertEquals(future.get().getConfig(), expected.getConfig());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void testOverlay() throws Exception {
+        Path directory = Files.createTempDirectory("uuf-overlay-test");
+        try {
+            Path appConfigFile = Files.write(directory.resolve("app.yaml"), (
+                    "contextPath: /pets\n" +
+                    "theme: org.example.theme\n" +
+                    "errorPages: {404: /error/404}\n" +
+                    "sessionManagement: {factoryClassName: org.example.Factory, timeout: 600}\n"
+            ).getBytes(StandardCharsets.UTF_8));
+            Path overlayFile = Files.write(directory.resolve("app-dev.yaml"), (
+                    "contextPath: /pets-dev\n" +
+                    "theme: null\n" +
+                    "errorPages: {500: /error/500}\n" +
+                    "sessionManagement: {timeout: 60}\n"
+            ).getBytes(StandardCharsets.UTF_8));
+
+            AppConfig appConfig = YamlFileParser.parse(appConfigFile.toString(), overlayFile.toString(),
+                                                       AppConfig.class, new YamlLimits());
+            Assert.assertEquals(appConfig.getContextPath(), "/pets-dev");
+            Assert.assertNull(appConfig.getTheme());
+            Assert.assertEquals(appConfig.getErrorPages().keySet(), new HashSet<>(Arrays.asList("404", "500")));
+            Assert.assertEquals(appConfig.getSessionManagement().getFactoryClassName(), "org.example.Factory");
+            Assert.assertEquals(appConfig.getSessionManagement().getTimeout(), 60L);
+
+            Files.write(overlayFile, "errorPages: {700: /error/700}".getBytes(StandardCharsets.UTF_8));
+            Assert.assertThrows(ParsingException.class, () -> YamlFileParser.parse(
+                    appConfigFile.toString(), overlayFile.toString(), AppConfig.class, new YamlLimits()));
+        } finally {
+            TestFiles.deleteDirectory(directory);
+        }
+    }
+
+    @Test
+    public void testParseMap() throws Exception {
+        Path directory = Files.createTempDirectory("uuf-map-test");
+        try {
+            Path configurationFile = Files.write(directory.resolve("configuration.yaml"), (
+                    "# Auto-generated by UUF Maven Plugin. Do NOT modify manually.\n" +
+                    "contextPath: null\n" +
+                    "errorPages:\n" +
+                    "  '404': /error/404\n" +
+                    "other:\n" +
+                    "  foo: {bar: 1}\n" +
+                    "theme: org.example.theme\n"
+            ).getBytes(StandardCharsets.UTF_8));
+
+            Map<?, ?> configuration = YamlFileParser.parseMap(configurationFile.toString(), new YamlLimits());
+            Assert.assertNull(configuration.get("contextPath"));
+            Assert.assertEquals(configuration.get("errorPages"), Collections.singletonMap("404", "/error/404"));
+            Assert.assertEquals(configuration.get("theme"), "org.example.theme");
+
+            Files.write(configurationFile, "- theme".getBytes(StandardCharsets.UTF_8));
+            Assert.assertThrows(ParsingException.class,
+                                () -> YamlFileParser.parseMap(configurationFile.toString(), new YamlLimits()));
+        } finally {
+            TestFiles.deleteDirectory(directory);
+        }
+    }
+
     private static String readResourceFile(String resourceFileName) {
         try {
             return IOUtils.toString(YamlFileParserTest.class.getResourceAsStream(resourceFileName),
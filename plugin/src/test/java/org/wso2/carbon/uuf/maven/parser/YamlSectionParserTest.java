@@ -0,0 +1,102 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.parser;
+
+import org.apache.commons.io.IOUtils;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
+import org.wso2.carbon.uuf.maven.exception.ParsingException;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for YAML section parser.
+ */
+public class YamlSectionParserTest {
+
+    @Test
+    public void testConfigSection() throws Exception {
+        String content = IOUtils.toString(YamlSectionParserTest.class.getResourceAsStream("/component.yaml"),
+                                          StandardCharsets.UTF_8.toString());
+        ComponentConfig componentConfig = YamlFileParser.parseString(content, ComponentConfig.class);
+        Map<String, Object> sections = parse(content, "config");
+        Assert.assertEquals(sections.keySet(), Collections.singleton("config"));
+        Assert.assertEquals(sections.get("config"), componentConfig.getConfig());
+    }
+
+    @Test
+    public void testSkippedSections() throws Exception {
+        String content = "apis:\n  - className: org.example.Api\n    uri: /api\n" +
+                "bindings:\n  - zoneName: main\n    fragments: [a, b]\n" +
+                "config:\n  key: &value {nested: [1, 2]}\n  other: *value\n" +
+                "other: [x, {y: z}]\n";
+        Map<String, Object> sections = parse(content, "config");
+        Assert.assertEquals(sections.keySet(), Collections.singleton("config"));
+        Map<?, ?> config = (Map<?, ?>) sections.get("config");
+        Assert.assertEquals(config.get("other"), config.get("key"));
+        Assert.assertEquals(parse(content, "missing"), Collections.emptyMap());
+    }
+
+    @Test
+    public void testAnchorsOutsideSections() throws Exception {
+        String content = "defaults: &defaults {a: 1}\nconfig:\n  values: *defaults\n";
+        Map<?, ?> config = (Map<?, ?>) parse(content, "config").get("config");
+        Assert.assertEquals(config.get("values"), Collections.singletonMap("a", 1));
+
+        content = "defaults: &defaults\n  config: {a: 1}\n<<: *defaults\n";
+        Assert.assertEquals(parse(content, "config").get("config"), Collections.singletonMap("a", 1));
+    }
+
+    @Test
+    public void testMergeKeysInSection() throws Exception {
+        String content = "other: {x: 1}\n" +
+                "config:\n  base: &base {a: 1, b: 2}\n  derived:\n    <<: *base\n    b: 3\n" +
+                "  nested:\n    inner:\n      <<: [*base, {c: 4}]\n";
+        Map<?, ?> config = (Map<?, ?>) parse(content, "config").get("config");
+        Map<String, Object> derived = new LinkedHashMap<>();
+        derived.put("a", 1);
+        derived.put("b", 3);
+        Assert.assertEquals(config.get("derived"), derived);
+        Map<String, Object> inner = new LinkedHashMap<>();
+        inner.put("a", 1);
+        inner.put("b", 2);
+        inner.put("c", 4);
+        Assert.assertEquals(((Map<?, ?>) config.get("nested")).get("inner"), inner);
+        Assert.assertFalse(((Map<?, ?>) config.get("derived")).containsKey("<<"));
+    }
+
+    @Test
+    public void testInvalidContent() {
+        Assert.assertThrows(ParsingException.class, () -> parse("", "config"));
+        Assert.assertThrows(ParsingException.class, () -> parse("# comments only", "config"));
+        Assert.assertThrows(ParsingException.class, () -> parse("- a\n- b", "config"));
+        Assert.assertThrows(ParsingException.class, () -> parse("config: [a, b", "config"));
+    }
+
+    private static Map<String, Object> parse(String content, String... keys) throws ParsingException {
+        return YamlSectionParser.parseContent(Paths.get("component.yaml"), content.getBytes(StandardCharsets.UTF_8),
+                                              new YamlLimits(), keys);
+    }
+}
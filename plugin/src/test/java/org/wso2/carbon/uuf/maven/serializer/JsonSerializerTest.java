@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.serializer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.parser.YamlFileParser;
+import org.wso2.carbon.uuf.maven.util.YamlEngines;
+
+import java.io.StringWriter;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for JSON serializer.
+ */
+public class JsonSerializerTest {
+
+    @Test
+    public void testSerialization() throws Exception {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("text", "say \"hi\"\\\n\t");
+        data.put("number", 10);
+        data.put("decimal", 1.5);
+        data.put("infinity", Double.POSITIVE_INFINITY);
+        data.put("flag", true);
+        data.put("nothing", null);
+        data.put("numericText", "10");
+        data.put("list", Arrays.asList("a", Arrays.asList(1, 2)));
+
+        Assert.assertEquals(serialize(data), "{\"text\":\"say \\\"hi\\\"\\\\\\n\\t\",\"number\":10," +
+                "\"decimal\":1.5,\"infinity\":null,\"flag\":true,\"nothing\":null,\"numericText\":\"10\"," +
+                "\"list\":[\"a\",[1,2]]}");
+    }
+
+    @Test
+    public void testSameContentAsYaml() throws Exception {
+        String componentConfigFilePath = Paths.get(JsonSerializerTest.class.getResource("/component.yaml").toURI())
+                .toString();
+        ComponentConfig componentConfig = YamlFileParser.parse(componentConfigFilePath, ComponentConfig.class);
+        // JSON is a subset of YAML, hence both outputs should load into the same content.
+        Assert.assertEquals(YamlEngines.loader().load(serialize(componentConfig)),
+                            YamlEngines.loader().load(YamlSerializer.serialize(componentConfig)));
+    }
+
+    private static String serialize(Object data) throws Exception {
+        StringWriter writer = new StringWriter();
+        JsonSerializer.serialize(YamlSerializer.represent(data), writer);
+        return writer.toString();
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.serializer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Test cases for properties serializer.
+ */
+public class PropertiesSerializerTest {
+
+    @Test
+    public void testSerialize() throws Exception {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("b.key", "plain value");
+        properties.put("a key", " leading space");
+        properties.put("special=:#!", "back\\slash\ttab\nnew line");
+        properties.put("unicode", "S\u00e3o Paulo \u65e5\u672c");
+
+        StringWriter writer = new StringWriter();
+        PropertiesSerializer.serialize(properties, writer);
+        String output = writer.toString();
+        Assert.assertTrue(output.startsWith("b.key=plain value\na\\ key=\\ leading space\n"), output);
+        Assert.assertTrue(output.chars().allMatch(c -> c < 0x7F), output);
+
+        Properties readProperties = new Properties();
+        readProperties.load(new StringReader(output));
+        Assert.assertEquals(readProperties, properties);
+    }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.serializer;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+import org.wso2.carbon.uuf.maven.bean.mojo.BundleListConfig;
+import org.wso2.carbon.uuf.maven.parser.YamlFileParserTest;
+
+import java.io.StringWriter;
+
+/**
+ * Test cases for YAML serializer.
+ */
+public class YamlSerializerTest {
+
+    @Test
+    public void testStreamingSerialization() throws Exception {
+        ComponentConfig componentConfig = new YamlFileParserTest().testComponentConfiguration();
+        StringWriter writer = new StringWriter();
+        YamlSerializer.serialize(componentConfig, writer);
+        Assert.assertEquals(writer.toString(), YamlSerializer.serialize(componentConfig));
+
+        BundleListConfig bundleListConfig = new YamlFileParserTest().testBundleDependencyConfiguration();
+        writer = new StringWriter();
+        YamlSerializer.serialize(bundleListConfig, writer);
+        Assert.assertEquals(writer.toString(), YamlSerializer.serialize(bundleListConfig));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+
+/**
+ * Test cases for API registry.
+ */
+public class ApiRegistryTest {
+
+    @Test
+    public void testGetApis() throws Exception {
+        ApiRegistry apiRegistry = new ApiRegistry();
+        List<ComponentConfig.API> storeApis = Arrays.asList(api("/products", "org.example.Products"),
+                                                            api("/cart/", "org.example.Cart"));
+        apiRegistry.addApis("org.example.store", "/store", storeApis);
+        apiRegistry.addApis("org.example.storefront", "/storefront",
+                            Collections.singletonList(api("/products", "org.example.front.Products")));
+        apiRegistry.addApis("org.example.other", "/other", null);
+        // Store is a dependency of both storefront and the app, hence appears twice in the dependency tree.
+        apiRegistry.addApis("org.example.store", "/store", storeApis);
+        apiRegistry.addApis("org.example.app", "", Collections.singletonList(api("/status", "org.example.Status")));
+
+        List<Map<String, String>> apis = apiRegistry.getApis();
+        Assert.assertEquals(apis.stream().map(api -> api.get("uri")).collect(Collectors.toList()),
+                            Arrays.asList("/status", "/store/cart/", "/store/products", "/storefront/products"));
+        Assert.assertEquals(apis.get(1).get("className"), "org.example.Cart");
+        Assert.assertEquals(apis.get(1).get("component"), "org.example.store");
+    }
+
+    @Test
+    public void testConflictingUris() {
+        ApiRegistry apiRegistry = new ApiRegistry();
+        apiRegistry.addApis("org.example.store", "/store", Arrays.asList(api("/products", "org.example.Products"),
+                                                                         api("/products/", "org.example.Other"),
+                                                                         api("/cart", "org.example.Cart"),
+                                                                         api("/cart/items", "org.example.Items")));
+        try {
+            apiRegistry.getApis();
+            Assert.fail("Duplicate and overlapping URIs should fail.");
+        } catch (MojoExecutionException e) {
+            Assert.assertTrue(e.getMessage().contains("'/store/products' of 'org.example.store' duplicates"),
+                              e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("'/store/cart' of 'org.example.store' overlaps " +
+                                                      "'/store/cart/items'"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testVerifyClasses() throws Exception {
+        File bundleFile = File.createTempFile("uuf-bundle", ".jar");
+        bundleFile.deleteOnExit();
+        try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(bundleFile))) {
+            jarOutputStream.putNextEntry(new ZipEntry("org/example/Products.class"));
+            jarOutputStream.closeEntry();
+        }
+
+        ApiRegistry apiRegistry = new ApiRegistry();
+        apiRegistry.addApis("org.example.store", "/store", Collections.singletonList(
+                api("/products", "org.example.Products")));
+        Assert.assertEquals(apiRegistry.verifyClasses(Collections.singletonList(bundleFile), Collections.emptySet()),
+                            Collections.emptySet());
+
+        apiRegistry.addApis("org.example.cart", "/cart", Collections.singletonList(
+                api("/items", "org.example.Cart")));
+        // The class may be in a bundle whose JAR file was not found, hence it is only reported.
+        Assert.assertEquals(apiRegistry.verifyClasses(Collections.singletonList(bundleFile),
+                                                      Collections.singleton("org.example.cart")),
+                            Collections.singleton("org.example.Cart"));
+        try {
+            apiRegistry.verifyClasses(Collections.singletonList(bundleFile), Collections.emptySet());
+            Assert.fail("An API class that does not exist in the bundles should fail.");
+        } catch (MojoExecutionException e) {
+            Assert.assertTrue(e.getMessage().contains("org.example.Cart"), e.getMessage());
+            Assert.assertFalse(e.getMessage().contains("org.example.Products"), e.getMessage());
+        }
+    }
+
+    private static ComponentConfig.API api(String uri, String className) {
+        ComponentConfig.API api = new ComponentConfig.API();
+        api.setUri(uri);
+        api.setClassName(className);
+        return api;
+    }
+}
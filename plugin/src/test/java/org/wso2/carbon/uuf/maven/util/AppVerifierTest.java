@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.AppConfig;
+import org.wso2.carbon.uuf.maven.bean.mojo.YamlLimits;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.wso2.carbon.uuf.maven.util.TestFiles.createFiles;
+import static org.wso2.carbon.uuf.maven.util.TestFiles.writeFile;
+
+/**
+ * Test cases for app verifier.
+ */
+public class AppVerifierTest {
+
+    private Path appDirectory;
+
+    @BeforeMethod
+    public void createAppDirectory() throws IOException {
+        appDirectory = Files.createTempDirectory("uuf-app");
+    }
+
+    @AfterMethod
+    public void deleteAppDirectory() throws IOException {
+        TestFiles.deleteDirectory(appDirectory);
+    }
+
+    @Test
+    public void testVerify() throws Exception {
+        createApp("- \"org.example.store.product\"", "  - css/theme.css\njs:\n  - js/theme.js\n");
+        AppVerifier appVerifier = createAppVerifier();
+
+        Assert.assertEquals(appVerifier.verify(), Collections.emptyList());
+        AppConfig appConfig = new AppConfig();
+        appConfig.setTheme("org.example.theme");
+        appConfig.setLoginPageUri("/store/login");
+        Map<String, String> errorPages = new HashMap<>();
+        errorPages.put("404", "/errors/404");
+        errorPages.put("500", "/store/products/12");
+        appConfig.setErrorPages(errorPages);
+        Assert.assertEquals(appVerifier.verify(appConfig), Collections.emptyList());
+    }
+
+    @Test
+    public void testUnresolvedReferences() throws Exception {
+        createApp("- \"org.example.store.products\"", "  - css/theme.css\n  - css/missing.css\n");
+        AppVerifier appVerifier = createAppVerifier();
+
+        List<String> errors = appVerifier.verify();
+        Assert.assertEquals(errors.size(), 2, errors.toString());
+        Assert.assertTrue(errors.get(0).contains("'org.example.store.products' bound to zone"), errors.get(0));
+        Assert.assertTrue(errors.get(1).startsWith("CSS file 'css/missing.css' of 'org.example.theme' theme"),
+                          errors.get(1));
+
+        AppConfig appConfig = new AppConfig();
+        appConfig.setTheme("org.example.missing");
+        appConfig.setLoginPageUri("/login");
+        appConfig.setErrorPages(Collections.singletonMap("404", "/store/products/12/reviews"));
+        errors = appVerifier.verify(appConfig);
+        Assert.assertEquals(errors.size(), 3, errors.toString());
+        Assert.assertTrue(errors.get(0).startsWith("Theme 'org.example.missing'"), errors.get(0));
+        Assert.assertTrue(errors.get(1).contains("'/login'"), errors.get(1));
+        Assert.assertTrue(errors.get(2).contains("'/store/products/12/reviews'"), errors.get(2));
+    }
+
+    private AppVerifier createAppVerifier() throws Exception {
+        AppVerifier appVerifier = new AppVerifier(appDirectory.resolve("components"), appDirectory.resolve("themes"),
+                                                  new YamlLimits());
+        appVerifier.addComponent("org.example.store", "store", "/store");
+        appVerifier.addComponent("org.example.app", "root", "");
+        return appVerifier;
+    }
+
+    private void createApp(String boundFragment, String themeCss) throws IOException {
+        createFiles(appDirectory, "components/root/pages/errors/404.hbs", "components/store/pages/login.hbs",
+                    "components/store/pages/products/{id}.hbs", "components/store/fragments/product/product.hbs",
+                    "themes/org.example.theme/public/css/theme.css", "themes/org.example.theme/public/js/theme.js");
+        writeFile(appDirectory, "components/store/component.yaml", "bindings: []\n");
+        writeFile(appDirectory, "components/root/component.yaml",
+                  "bindings:\n  - zoneName: \"org.example.store.content\"\n    fragments:\n      " + boundFragment +
+                          "\n");
+        writeFile(appDirectory, "themes/org.example.theme/theme.yaml", "css:\n" + themeCss);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for binding resolver.
+ */
+public class BindingResolverTest {
+
+    @Test
+    public void testResolve() throws Exception {
+        BindingResolver bindingResolver = new BindingResolver(new HashSet<>(Arrays.asList(
+                "org.example.foundation.footer", "org.example.foundation.menu", "org.example.store.footer",
+                "org.example.store.banner", "org.example.store.menu")));
+        bindingResolver.addBindings("org.example.foundation", Arrays.asList(
+                binding("footer", null, "footer"),
+                binding("menu", ComponentConfig.Binding.MODE_APPEND, "menu")));
+        bindingResolver.addBindings("org.example.store", Arrays.asList(
+                binding("org.example.foundation.footer", ComponentConfig.Binding.MODE_APPEND, "footer"),
+                binding("org.example.foundation.footer", ComponentConfig.Binding.MODE_PREPEND, "banner"),
+                binding("org.example.foundation.menu", ComponentConfig.Binding.MODE_OVERWRITE, "menu")));
+        bindingResolver.addBindings("org.example.other", null);
+
+        Map<String, List<String>> zones = bindingResolver.getZones();
+        Assert.assertEquals(zones.keySet(), new HashSet<>(Arrays.asList("org.example.foundation.footer",
+                                                                        "org.example.foundation.menu")));
+        Assert.assertEquals(zones.get("org.example.foundation.footer"), Arrays.asList(
+                "org.example.store.banner", "org.example.foundation.footer", "org.example.store.footer"));
+        Assert.assertEquals(zones.get("org.example.foundation.menu"),
+                            Collections.singletonList("org.example.store.menu"));
+    }
+
+    @Test
+    public void testSharedComponent() throws Exception {
+        BindingResolver bindingResolver = new BindingResolver(new HashSet<>(Arrays.asList(
+                "org.example.foundation.footer", "org.example.store.footer")));
+        List<ComponentConfig.Binding> foundationBindings = Collections.singletonList(binding("footer", null, "footer"));
+        // Foundation is a dependency of both store and the app, hence appears twice in the dependency tree.
+        bindingResolver.addBindings("org.example.foundation", foundationBindings);
+        bindingResolver.addBindings("org.example.store", Collections.singletonList(
+                binding("org.example.foundation.footer", ComponentConfig.Binding.MODE_OVERWRITE, "footer")));
+        bindingResolver.addBindings("org.example.foundation", foundationBindings);
+
+        Assert.assertEquals(bindingResolver.getZones().get("org.example.foundation.footer"),
+                            Collections.singletonList("org.example.store.footer"));
+    }
+
+    @Test
+    public void testUnknownFragment() {
+        BindingResolver bindingResolver = new BindingResolver(Collections.singleton("org.example.store.footer"));
+        bindingResolver.addBindings("org.example.store", Collections.singletonList(
+                binding("org.example.foundation.footer", null, "footer", "org.example.foundation.missing")));
+        try {
+            bindingResolver.getZones();
+            Assert.fail("Binding to a non-existing fragment should fail.");
+        } catch (MojoExecutionException e) {
+            Assert.assertTrue(e.getMessage().contains("'org.example.foundation.missing'"), e.getMessage());
+            Assert.assertFalse(e.getMessage().contains("'org.example.store.footer'"), e.getMessage());
+        }
+    }
+
+    private static ComponentConfig.Binding binding(String zoneName, String mode, String... fragments) {
+        ComponentConfig.Binding binding = new ComponentConfig.Binding();
+        binding.setZoneName(zoneName);
+        if (mode != null) {
+            binding.setMode(mode);
+        }
+        binding.setFragments(Arrays.asList(fragments));
+        return binding;
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test cases for persistent configuration tree.
+ */
+public class ConfigTreeTest {
+
+    @Test
+    public void testFreeze() {
+        Map<String, Object> map = new HashMap<>();
+        map.put("list", new ArrayList<>(Arrays.asList(1, 2)));
+        map.put("map", new HashMap<>(Collections.singletonMap("key", "value")));
+        Map<String, Object> frozenMap = ConfigTree.freeze(map);
+
+        Assert.assertEquals(frozenMap, map);
+        Assert.assertEquals(frozenMap.hashCode(), map.hashCode());
+        Assert.assertSame(ConfigTree.freeze(frozenMap), frozenMap);
+        Assert.assertThrows(UnsupportedOperationException.class, () -> frozenMap.put("key", "value"));
+        Assert.assertThrows(UnsupportedOperationException.class, () -> ((List<?>) frozenMap.get("list")).clear());
+        Assert.assertThrows(UnsupportedOperationException.class,
+                            () -> ((Map<?, ?>) frozenMap.get("map")).remove("key"));
+    }
+
+    @Test
+    public void testMerge() {
+        Map<String, Object> oldMap = new HashMap<>();
+        oldMap.put("shared", new HashMap<>(Collections.singletonMap("key", "value")));
+        oldMap.put("list", new ArrayList<>(Arrays.asList("a", "b")));
+        oldMap.put("removed", "value");
+        Map<String, Object> frozenOldMap = ConfigTree.freeze(oldMap);
+
+        Map<String, Object> newMap = new HashMap<>();
+        newMap.put("list", new ArrayList<>(Arrays.asList("b", "c")));
+        newMap.put("removed", null);
+        newMap.put("added", Collections.singletonMap("nested", null));
+        Map<String, Object> mergedMap = ConfigTree.merge(frozenOldMap, newMap);
+
+        Assert.assertEquals(mergedMap.get("list"), Arrays.asList("a", "b", "c"));
+        Assert.assertFalse(mergedMap.containsKey("removed"));
+        Assert.assertTrue(((Map<?, ?>) mergedMap.get("added")).containsKey("nested"));
+        // Untouched sub-trees are shared and merged trees are not modified.
+        Assert.assertSame(mergedMap.get("shared"), frozenOldMap.get("shared"));
+        Assert.assertEquals(frozenOldMap, oldMap);
+        Assert.assertEquals(newMap.get("list"), Arrays.asList("b", "c"));
+    }
+
+    @Test
+    public void testMergeAll() {
+        for (long seed = 0; seed < 20; seed++) {
+            Random random = new Random(seed);
+            List<Map<String, Object>> newMaps = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                newMaps.add(createRandomMap(random, 0));
+            }
+
+            Map<String, Object> sequentialMap = ConfigTree.emptyMap();
+            for (Map<String, Object> newMap : newMaps) {
+                sequentialMap = ConfigTree.merge(sequentialMap, newMap);
+            }
+            Map<String, Object> parallelMap = ConfigTree.mergeAll(ConfigTree.emptyMap(), newMaps);
+
+            Assert.assertEquals(parallelMap, sequentialMap, "Seed " + seed);
+            // Compare string representations as well to make sure that the orders are the same.
+            Assert.assertEquals(parallelMap.toString(), sequentialMap.toString(), "Seed " + seed);
+        }
+    }
+
+    private static Map<String, Object> createRandomMap(Random random, int depth) {
+        Map<String, Object> map = new LinkedHashMap<>();
+        int size = random.nextInt(4);
+        for (int i = 0; i < size; i++) {
+            map.put("key" + random.nextInt(5), createRandomValue(random, depth));
+        }
+        return map;
+    }
+
+    private static Object createRandomValue(Random random, int depth) {
+        switch (random.nextInt((depth < 3) ? 5 : 3)) {
+            case 0:
+                return null;
+            case 1:
+                return random.nextInt(3);
+            case 2:
+                List<Object> list = new ArrayList<>();
+                for (int i = random.nextInt(4); i > 0; i--) {
+                    list.add(random.nextBoolean() ? random.nextInt(4)
+                                                  : Collections.singletonMap("id", random.nextInt(2)));
+                }
+                return list;
+            default:
+                return createRandomMap(random, depth + 1);
+        }
+    }
+}
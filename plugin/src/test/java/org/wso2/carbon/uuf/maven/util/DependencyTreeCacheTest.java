@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.model.Dependency;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.DependencyNode;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test cases for dependency tree cache.
+ */
+public class DependencyTreeCacheTest {
+
+    private Path cacheDirectory;
+
+    @BeforeMethod
+    public void createCacheDirectory() throws IOException {
+        cacheDirectory = Files.createTempDirectory("uuf-cache");
+    }
+
+    @AfterMethod
+    public void deleteCacheDirectory() throws IOException {
+        TestFiles.deleteDirectory(cacheDirectory);
+    }
+
+    @Test
+    public void testReadWrite() throws Exception {
+        String cacheFilePath = cacheDirectory.resolve("dependency-tree.cache").toString();
+        String key = DependencyTreeCache.computeKey("org.example.app", "1.0.0", Collections.emptyList(),
+                                                      Collections.emptyList());
+        DependencyNode rootNode = new DependencyNode("org.example.app", "1.0.0", null);
+        rootNode.addDependency(new DependencyNode("org.example.store", "1.0.0", rootNode));
+
+        Assert.assertNull(DependencyTreeCache.read(cacheFilePath, key));
+        DependencyTreeCache.write(cacheFilePath, key, rootNode);
+        DependencyNode cachedRootNode = DependencyTreeCache.read(cacheFilePath, key);
+        Assert.assertEquals(cachedRootNode, rootNode);
+        Assert.assertEquals(cachedRootNode.getDependencies(), rootNode.getDependencies());
+        Assert.assertNull(DependencyTreeCache.read(cacheFilePath, "other-key"));
+    }
+
+    @Test
+    public void testKeyCoversDeclarationOrder() {
+        Dependency store = createDependency("org.example.store");
+        Dependency theme = createDependency("org.example.theme");
+
+        String key = DependencyTreeCache.computeKey("org.example.app", "1.0.0", Arrays.asList(store, theme),
+                                                    Collections.emptyList());
+        Assert.assertEquals(DependencyTreeCache.computeKey("org.example.app", "1.0.0", Arrays.asList(store, theme),
+                                                           Collections.emptyList()), key);
+        Assert.assertNotEquals(DependencyTreeCache.computeKey("org.example.app", "1.0.0", Arrays.asList(theme, store),
+                                                              Collections.emptyList()), key);
+    }
+
+    @Test
+    public void testCorruptedCacheFile() throws Exception {
+        Path cacheFile = cacheDirectory.resolve("dependency-tree.cache");
+        String key = DependencyTreeCache.computeKey("org.example.app", "1.0.0", Collections.emptyList(),
+                                                      Collections.emptyList());
+        DependencyTreeCache.write(cacheFile.toString(), key, new DependencyNode("org.example.app", "1.0.0", null));
+        byte[] content = Files.readAllBytes(cacheFile);
+
+        // Truncated content.
+        Files.write(cacheFile, Arrays.copyOf(content, content.length - 1));
+        Assert.assertNull(DependencyTreeCache.read(cacheFile.toString(), key));
+        // Negative and huge content lengths.
+        for (int contentLength : new int[]{-1, Integer.MAX_VALUE}) {
+            ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+            try (DataOutputStream dataOutputStream = new DataOutputStream(byteArrayOutputStream)) {
+                dataOutputStream.writeUTF(key);
+                dataOutputStream.writeInt(contentLength);
+            }
+            Files.write(cacheFile, byteArrayOutputStream.toByteArray());
+            Assert.assertNull(DependencyTreeCache.read(cacheFile.toString(), key));
+        }
+        // Garbage content.
+        Files.write(cacheFile, new byte[]{1, 2, 3});
+        Assert.assertNull(DependencyTreeCache.read(cacheFile.toString(), key));
+    }
+
+    private static Dependency createDependency(String artifactId) {
+        Dependency dependency = new Dependency();
+        dependency.setGroupId("org.example");
+        dependency.setArtifactId(artifactId);
+        return dependency;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Test cases for language bundle merger.
+ */
+public class LangBundleMergerTest {
+
+    private final List<Path> directories = new ArrayList<>();
+
+    @AfterMethod
+    public void deleteDirectories() throws IOException {
+        for (Path directory : directories) {
+            TestFiles.deleteDirectory(directory);
+        }
+        directories.clear();
+    }
+
+    @Test
+    public void testMerge() throws Exception {
+        Path foundationLang = createDirectory();
+        Files.write(foundationLang.resolve("en-US.properties"),
+                    Arrays.asList("app.name=Foundation", "foundation.title=Welcome", "common.ok=OK"));
+        Files.write(foundationLang.resolve("fr-FR.properties"), Arrays.asList("common.ok=D'accord"));
+        Files.write(foundationLang.resolve("README.txt"), Arrays.asList("not a language file"));
+        Path appLang = createDirectory();
+        Files.write(appLang.resolve("en-US.properties"), Arrays.asList("app.name=Store", "common.ok=OK"));
+        Files.write(appLang.resolve("pt-BR.properties"), Arrays.asList("app.title=S\u00e3o Paulo"),
+                    StandardCharsets.UTF_8);
+
+        LangBundleMerger langBundleMerger = new LangBundleMerger();
+        langBundleMerger.addLangFiles("org.example.foundation", foundationLang);
+        langBundleMerger.addLangFiles("org.example.other", foundationLang.resolve("missing"));
+        langBundleMerger.addLangFiles("org.example.app", appLang);
+
+        Map<String, Map<String, String>> bundles = langBundleMerger.getBundles();
+        Assert.assertEquals(new ArrayList<>(bundles.keySet()), Arrays.asList("en-US", "fr-FR", "pt-BR"));
+        Map<String, String> enUs = bundles.get("en-US");
+        Assert.assertEquals(new ArrayList<>(enUs.keySet()), Arrays.asList("app.name", "common.ok", "foundation.title"));
+        Assert.assertEquals(enUs.get("app.name"), "Store");
+        Assert.assertEquals(bundles.get("pt-BR").get("app.title"), "S\u00e3o Paulo");
+
+        // Overriding with the same value is not a collision.
+        Assert.assertEquals(langBundleMerger.getCollisions().size(), 1, langBundleMerger.getCollisions().toString());
+        Assert.assertEquals(langBundleMerger.getCollisions().get(0), "'app.name' of 'org.example.foundation' is " +
+                "overridden by 'org.example.app' in 'en-US' locale");
+    }
+
+    @Test
+    public void testSharedComponent() throws Exception {
+        Path foundationLang = createDirectory();
+        Files.write(foundationLang.resolve("en-US.properties"), Arrays.asList("app.name=Foundation"));
+        Path appLang = createDirectory();
+        Files.write(appLang.resolve("en-US.properties"), Arrays.asList("app.name=Store"));
+
+        LangBundleMerger langBundleMerger = new LangBundleMerger();
+        langBundleMerger.addLangFiles("org.example.foundation", foundationLang);
+        langBundleMerger.addLangFiles("org.example.app", appLang);
+        // Foundation is a dependency of several components, hence appears again later in the dependency tree.
+        langBundleMerger.addLangFiles("org.example.foundation", foundationLang);
+
+        Assert.assertEquals(langBundleMerger.getBundles().get("en-US").get("app.name"), "Store");
+        Assert.assertEquals(langBundleMerger.getCollisions().size(), 1, langBundleMerger.getCollisions().toString());
+    }
+
+    @Test
+    public void testIsoLatin1Files() throws Exception {
+        Path langDirectory = createDirectory();
+        // Standard .properties files are ISO-8859-1 encoded, where a non-ASCII byte is not valid UTF-8.
+        Files.write(langDirectory.resolve("pt-BR.properties"), "app.title=S\u00e3o Paulo\n"
+                .getBytes(StandardCharsets.ISO_8859_1));
+        Files.write(langDirectory.resolve("fr-FR.properties"), "app.title=Caf\u00e9 \\u00e0 Paris\n"
+                .getBytes(StandardCharsets.ISO_8859_1));
+
+        LangBundleMerger langBundleMerger = new LangBundleMerger();
+        langBundleMerger.addLangFiles("org.example.app", langDirectory);
+
+        Map<String, Map<String, String>> bundles = langBundleMerger.getBundles();
+        Assert.assertEquals(bundles.get("pt-BR").get("app.title"), "S\u00e3o Paulo");
+        Assert.assertEquals(bundles.get("fr-FR").get("app.title"), "Caf\u00e9 \u00e0 Paris");
+    }
+
+    private Path createDirectory() throws IOException {
+        Path directory = Files.createTempDirectory("uuf-lang");
+        directories.add(directory);
+        return directory;
+    }
+}
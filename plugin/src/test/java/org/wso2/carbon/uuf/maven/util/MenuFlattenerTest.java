@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.AppConfig;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Test cases for menu flattener.
+ */
+public class MenuFlattenerTest {
+
+    @Test
+    public void testFlatten() {
+        AppConfig.Menu mainMenu = new AppConfig.Menu();
+        mainMenu.setName("main");
+        mainMenu.setItems(Arrays.asList(
+                menuItem("Home", "/", "fw-home",
+                         menuItem("Pets", "/pets?sort=name", null,
+                                  menuItem("Dogs", "/pets/dogs#top", null)),
+                         menuItem("Docs", "https://example.com/docs", null)),
+                menuItem("About", "#", null),
+                menuItem("More", null, null,
+                         menuItem("Help", "/", null))));
+        AppConfig.Menu footerMenu = new AppConfig.Menu();
+        footerMenu.setName("footer");
+        footerMenu.setItems(Collections.singletonList(menuItem("Missing", "/missing", null)));
+
+        Set<String> pages = new HashSet<>(Arrays.asList("/", "/pets", "/pets/dogs"));
+        MenuFlattener menuFlattener = new MenuFlattener("/pets-store/", pages::contains);
+        Map<String, List<Map<String, Object>>> menus = menuFlattener.flatten(Arrays.asList(mainMenu, footerMenu));
+
+        List<Map<String, Object>> items = menus.get("main");
+        Assert.assertEquals(items.size(), 7);
+        assertItem(items.get(0), "Home", "/pets-store/", 0, -1);
+        Assert.assertEquals(items.get(0).get("icon"), "fw-home");
+        assertItem(items.get(1), "Pets", "/pets-store/pets?sort=name", 1, 0);
+        Assert.assertFalse(items.get(1).containsKey("icon"));
+        assertItem(items.get(2), "Dogs", "/pets-store/pets/dogs#top", 2, 1);
+        assertItem(items.get(3), "Docs", "https://example.com/docs", 1, 0);
+        assertItem(items.get(4), "About", "#", 0, -1);
+        assertItem(items.get(5), "More", null, 0, -1);
+        Assert.assertFalse(items.get(5).containsKey("href"));
+        assertItem(items.get(6), "Help", "/pets-store/", 1, 5);
+
+        Assert.assertEquals(menuFlattener.getUnresolvedLinks(),
+                            Collections.singletonList("'/missing' of 'Missing' item in 'footer' menu"));
+    }
+
+    private static void assertItem(Map<String, Object> item, String text, String href, int depth, int parent) {
+        Assert.assertEquals(item.get("text"), text);
+        Assert.assertEquals(item.get("href"), href);
+        Assert.assertEquals(item.get("depth"), depth);
+        Assert.assertEquals(item.get("parent"), parent);
+    }
+
+    private static AppConfig.MenuItem menuItem(String text, String link, String icon,
+                                               AppConfig.MenuItem... submenus) {
+        AppConfig.MenuItem menuItem = new AppConfig.MenuItem();
+        menuItem.setText(text);
+        if (link != null) {
+            menuItem.setLink(link);
+        }
+        menuItem.setIcon(icon);
+        menuItem.setSubmenus(Arrays.asList(submenus));
+        return menuItem;
+    }
+}
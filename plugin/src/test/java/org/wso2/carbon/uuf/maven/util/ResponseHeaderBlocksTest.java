@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for response header blocks.
+ */
+public class ResponseHeaderBlocksTest {
+
+    @Test
+    public void testToBlock() {
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put("X-Frame-Options", " DENY ");
+        headers.put("Content-Security-Policy", "default-src 'none';");
+        Assert.assertEquals(ResponseHeaderBlocks.toBlock(headers),
+                            "X-Frame-Options: DENY\r\nContent-Security-Policy: default-src 'none'\r\n");
+        Assert.assertEquals(ResponseHeaderBlocks.toBlock(new LinkedHashMap<>()), "");
+    }
+
+    @Test
+    public void testCanonicalizeCsp() {
+        Assert.assertEquals(ResponseHeaderBlocks.canonicalize(
+                "content-security-policy", " Default-Src  'SELF'\thttps://cdn.example.com 'self' ;; " +
+                        "script-src 'Nonce-AbC123' 'SHA256-XyZ=' 'Unsafe-Inline'; upgrade-insecure-requests;"),
+                            "default-src 'self' https://cdn.example.com; " +
+                                    "script-src 'nonce-AbC123' 'sha256-XyZ=' 'unsafe-inline'; " +
+                                    "upgrade-insecure-requests");
+        Assert.assertEquals(ResponseHeaderBlocks.canonicalize("Content-Security-Policy-Report-Only",
+                                                              "img-src *"), "img-src *");
+        Assert.assertThrows(IllegalArgumentException.class, () -> ResponseHeaderBlocks.canonicalize(
+                "Content-Security-Policy", "default-src 'self'; DEFAULT-SRC 'none'"));
+    }
+}
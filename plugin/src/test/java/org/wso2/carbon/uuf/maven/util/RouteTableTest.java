@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.wso2.carbon.uuf.maven.util.TestFiles.createFiles;
+
+/**
+ * Test cases for route table.
+ */
+public class RouteTableTest {
+
+    private Path componentsDirectory;
+
+    @BeforeMethod
+    public void createComponentsDirectory() throws IOException {
+        componentsDirectory = Files.createTempDirectory("uuf-components");
+    }
+
+    @AfterMethod
+    public void deleteComponentsDirectory() throws IOException {
+        TestFiles.deleteDirectory(componentsDirectory);
+    }
+
+    @Test
+    public void testGetRoutes() throws Exception {
+        createFiles(componentsDirectory, "root/pages/index.hbs", "root/pages/index.js", "root/pages/about.hbs",
+                    "store/pages/index.hbs", "store/pages/products/{id}.hbs", "store/pages/products/{id}.js",
+                    "store/pages/products/new.hbs", "store/pages/products/{+path}.hbs",
+                    "store/pages/products/index.hbs", "store/pages/products/helper.js");
+
+        RouteTable routeTable = new RouteTable(componentsDirectory);
+        routeTable.addPages("org.example.app", "root", "");
+        routeTable.addPages("org.example.store", "store", "/store");
+        routeTable.addPages("org.example.other", "other", "/other");
+        // Store is a dependency of both the app and another component, hence appears twice in the dependency tree.
+        routeTable.addPages("org.example.store", "store", "/store");
+
+        List<Map<String, String>> routes = routeTable.getRoutes();
+        Assert.assertEquals(routes.stream().map(route -> route.get("uri")).collect(Collectors.toList()),
+                            Arrays.asList("/", "/about", "/store/", "/store/products/", "/store/products/new",
+                                          "/store/products/{id}", "/store/products/{+path}"));
+        Assert.assertEquals(routes.get(0).get("component"), "org.example.app");
+        Assert.assertEquals(routes.get(0).get("template"), "root/pages/index.hbs");
+        Assert.assertEquals(routes.get(0).get("script"), "root/pages/index.js");
+        Assert.assertFalse(routes.get(1).containsKey("script"));
+        Assert.assertEquals(routes.get(5).get("script"), "store/pages/products/{id}.js");
+    }
+
+    @Test
+    public void testDuplicateRoutes() throws Exception {
+        createFiles(componentsDirectory, "root/pages/store/index.hbs", "store/pages/index.hbs",
+                    "store/pages/products/{id}.hbs", "store/pages/products/{id}/reviews.hbs",
+                    "store/pages/products/{name}.hbs");
+
+        RouteTable routeTable = new RouteTable(componentsDirectory);
+        routeTable.addPages("org.example.app", "root", "");
+        routeTable.addPages("org.example.store", "store", "/store");
+        try {
+            routeTable.getRoutes();
+            Assert.fail("Pages that match the same URIs should fail.");
+        } catch (MojoExecutionException e) {
+            Assert.assertTrue(e.getMessage().contains("'/store/' of 'org.example.app' duplicates '/store/' of " +
+                                                      "'org.example.store'"), e.getMessage());
+            Assert.assertTrue(e.getMessage().contains("'/store/products/{id}' of 'org.example.store' duplicates " +
+                                                      "'/store/products/{name}'"), e.getMessage());
+            Assert.assertFalse(e.getMessage().contains("reviews"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testWildcardNotLast() throws Exception {
+        createFiles(componentsDirectory, "store/pages/{+path}/edit.hbs");
+
+        RouteTable routeTable = new RouteTable(componentsDirectory);
+        routeTable.addPages("org.example.store", "store", "/store");
+        try {
+            routeTable.getRoutes();
+            Assert.fail("A wildcard which is not the last segment should fail.");
+        } catch (MojoExecutionException e) {
+            Assert.assertTrue(e.getMessage().contains("'/store/{+path}/edit'"), e.getMessage());
+        }
+    }
+
+    @Test
+    public void testHasRoute() throws Exception {
+        createFiles(componentsDirectory, "root/pages/index.hbs", "store/pages/products/{id}.hbs",
+                    "store/pages/files/{+path}.hbs");
+
+        RouteTable routeTable = new RouteTable(componentsDirectory);
+        routeTable.addPages("org.example.app", "root", "");
+        routeTable.addPages("org.example.store", "store", "/store");
+        Assert.assertTrue(routeTable.hasRoute("/"));
+        Assert.assertTrue(routeTable.hasRoute("/store/products/1"));
+        Assert.assertTrue(routeTable.hasRoute("/store/files/a/b.txt"));
+        Assert.assertFalse(routeTable.hasRoute("/index"));
+        Assert.assertFalse(routeTable.hasRoute("/store/products/"));
+        Assert.assertFalse(routeTable.hasRoute("/store/products/1/reviews"));
+        Assert.assertFalse(routeTable.hasRoute("/store/files/"));
+    }
+}
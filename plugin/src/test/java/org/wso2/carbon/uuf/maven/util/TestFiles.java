@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * File helpers shared by test cases that work on temporary directories.
+ */
+public class TestFiles {
+
+    /**
+     * Creates empty files at the specified paths, including their parent directories.
+     *
+     * @param directory     base directory
+     * @param relativePaths paths of the files relative to the base directory
+     * @throws IOException if a file cannot be created
+     */
+    public static void createFiles(Path directory, String... relativePaths) throws IOException {
+        for (String relativePath : relativePaths) {
+            Path file = directory.resolve(relativePath);
+            Files.createDirectories(file.getParent());
+            Files.createFile(file);
+        }
+    }
+
+    /**
+     * Writes the specified content to a file at the specified path as UTF-8, including its parent directories.
+     *
+     * @param directory    base directory
+     * @param relativePath path of the file relative to the base directory
+     * @param content      content of the file
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeFile(Path directory, String relativePath, String content) throws IOException {
+        Path file = directory.resolve(relativePath);
+        Files.createDirectories(file.getParent());
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Deletes the specified directory with all its content.
+     *
+     * @param directory directory to delete
+     * @throws IOException if a file or a directory cannot be deleted
+     */
+    public static void deleteDirectory(Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.carbon.uuf.maven.util;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+import org.wso2.carbon.uuf.maven.bean.ComponentConfig;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.wso2.carbon.uuf.maven.util.TestFiles.writeFile;
+
+/**
+ * Test cases for unused component analyzer.
+ */
+public class UnusedComponentAnalyzerTest {
+
+    private Path componentsDirectory;
+
+    @BeforeMethod
+    public void createComponentsDirectory() throws IOException {
+        componentsDirectory = Files.createTempDirectory("uuf-components");
+    }
+
+    @AfterMethod
+    public void deleteComponentsDirectory() throws IOException {
+        TestFiles.deleteDirectory(componentsDirectory);
+    }
+
+    @Test
+    public void testGetUnusedComponents() throws Exception {
+        writeFile(componentsDirectory, "root/pages/index.hbs", "{{layout \"org.example.theme.main\"}}");
+        writeFile(componentsDirectory, "theme/layouts/main.hbs", "{{fragment \"org.example.widgets.header\"}}");
+        writeFile(componentsDirectory, "widgets/fragments/header/header.hbs", "<header/>");
+        writeFile(componentsDirectory, "menus/fragments/menu/menu.hbs", "<nav/>");
+        writeFile(componentsDirectory, "charts/fragments/chart/chart.hbs", "{{fragment \"org.example.menus.menu\"}}");
+        writeFile(componentsDirectory, "auth/osgi-imports", "org.example.auth;version=\"[1.0,2.0)\"");
+        writeFile(componentsDirectory, "store/pages/index.hbs", "<h1/>");
+
+        UnusedComponentAnalyzer unusedComponentAnalyzer = new UnusedComponentAnalyzer(componentsDirectory);
+        unusedComponentAnalyzer.addComponent("org.example.widgets", "widgets", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.menus", "menus", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.charts", "charts", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.theme", "theme", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.auth", "auth", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.store", "store", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.app", "root", new ComponentConfig(), true);
+
+        Assert.assertEquals(unusedComponentAnalyzer.getUnusedComponents(),
+                            Arrays.asList("org.example.menus", "org.example.charts"));
+    }
+
+    @Test
+    public void testBoundFragments() throws Exception {
+        writeFile(componentsDirectory, "widgets/fragments/header/header.hbs", "<header/>");
+
+        ComponentConfig.Binding binding = new ComponentConfig.Binding();
+        binding.setZoneName("header");
+        binding.setFragments(Collections.singletonList("org.example.widgets.header"));
+        ComponentConfig rootConfig = new ComponentConfig();
+        rootConfig.setBindings(Collections.singletonList(binding));
+        ComponentConfig configuredConfig = new ComponentConfig();
+        configuredConfig.setConfig(Collections.singletonMap("key", "value"));
+
+        UnusedComponentAnalyzer unusedComponentAnalyzer = new UnusedComponentAnalyzer(componentsDirectory);
+        unusedComponentAnalyzer.addComponent("org.example.widgets", "widgets", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.config", "config", configuredConfig, false);
+        unusedComponentAnalyzer.addComponent("org.example.empty", "empty", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.app", "root", rootConfig, true);
+
+        Assert.assertEquals(unusedComponentAnalyzer.getUnusedComponents(),
+                            Collections.singletonList("org.example.empty"));
+    }
+
+    @Test
+    public void testLangAndPublicResources() throws Exception {
+        writeFile(componentsDirectory, "i18n/lang/en.properties", "greeting=Hello");
+        writeFile(componentsDirectory, "assets/public/css/main.css", "body {}");
+        writeFile(componentsDirectory, "widgets/fragments/logo/public/logo.png", "png");
+        writeFile(componentsDirectory, "menus/fragments/menu/menu.hbs", "<nav/>");
+
+        UnusedComponentAnalyzer unusedComponentAnalyzer = new UnusedComponentAnalyzer(componentsDirectory);
+        unusedComponentAnalyzer.addComponent("org.example.i18n", "i18n", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.assets", "assets", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.widgets", "widgets", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.menus", "menus", new ComponentConfig(), false);
+        unusedComponentAnalyzer.addComponent("org.example.app", "root", new ComponentConfig(), true);
+
+        Assert.assertEquals(unusedComponentAnalyzer.getUnusedComponents(),
+                            Collections.singletonList("org.example.menus"));
+    }
+}
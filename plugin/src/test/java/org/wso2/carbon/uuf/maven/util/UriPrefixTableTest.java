@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2017, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.carbon.uuf.maven.util;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * Test cases for URI prefix table.
+ */
+public class UriPrefixTableTest {
+
+    @Test
+    public void testCompile() {
+        UriPrefixTable uriPrefixTable = new UriPrefixTable(Arrays.asList(
+                "/store/apis/", "/login", "/store/apis/cart", "/store/", "/login", "/logout", "/store/apis-v2"));
+        Assert.assertEquals(uriPrefixTable.getPrefixes(), Arrays.asList("/login", "/logout", "/store/"));
+        Assert.assertEquals(uriPrefixTable.getIssues(), Arrays.asList(
+                "'/login' is duplicated",
+                "'/store/apis-v2' is redundant as it is covered by '/store/'",
+                "'/store/apis/' is redundant as it is covered by '/store/'",
+                "'/store/apis/cart' is redundant as it is covered by '/store/'"));
+    }
+
+    @Test
+    public void testMatches() {
+        UriPrefixTable uriPrefixTable = new UriPrefixTable(Arrays.asList("/apis/", "/login", "/store/apis/"));
+        Assert.assertTrue(uriPrefixTable.matches("/login"));
+        Assert.assertTrue(uriPrefixTable.matches("/login/sso"));
+        Assert.assertTrue(uriPrefixTable.matches("/apis/cart"));
+        Assert.assertTrue(uriPrefixTable.matches("/store/apis/products/1"));
+        Assert.assertFalse(uriPrefixTable.matches("/apis"));
+        Assert.assertFalse(uriPrefixTable.matches("/"));
+        Assert.assertFalse(uriPrefixTable.matches("/logi"));
+        Assert.assertFalse(uriPrefixTable.matches("/store/products"));
+        Assert.assertFalse(new UriPrefixTable(Collections.emptyList()).matches("/login"));
+    }
+
+    @Test
+    public void testSiblingPrefixes() {
+        UriPrefixTable uriPrefixTable = new UriPrefixTable(Arrays.asList(
+                "/public", "/publicAdmin", "/public-v2", "/public/css", "/store/", "/store", "/storefront/"));
+        // Prefixes are compared segment-wise, hence a sibling that merely starts with the same characters is kept.
+        Assert.assertEquals(uriPrefixTable.getPrefixes(), Arrays.asList("/public-v2", "/public", "/publicAdmin",
+                                                                        "/store", "/storefront/"));
+        Assert.assertEquals(uriPrefixTable.getIssues(), Arrays.asList(
+                "'/public/css' is redundant as it is covered by '/public'",
+                "'/store/' is redundant as it is covered by '/store'"));
+
+        Assert.assertTrue(uriPrefixTable.matches("/public"));
+        Assert.assertTrue(uriPrefixTable.matches("/public/"));
+        Assert.assertTrue(uriPrefixTable.matches("/public/css/main.css"));
+        Assert.assertTrue(uriPrefixTable.matches("/publicAdmin/users"));
+        Assert.assertTrue(uriPrefixTable.matches("/store"));
+        Assert.assertTrue(uriPrefixTable.matches("/storefront/index"));
+        Assert.assertFalse(uriPrefixTable.matches("/publicAdministrator"));
+        Assert.assertFalse(uriPrefixTable.matches("/public-v3"));
+        Assert.assertFalse(uriPrefixTable.matches("/stores"));
+        Assert.assertFalse(uriPrefixTable.matches("/storefront"));
+
+        UriPrefixTable publicOnly = new UriPrefixTable(Collections.singletonList("/public"));
+        Assert.assertFalse(publicOnly.matches("/publicAdmin"));
+        Assert.assertFalse(publicOnly.matches("/public-v2/x"));
+        Assert.assertTrue(publicOnly.matches("/public/x"));
+    }
+}